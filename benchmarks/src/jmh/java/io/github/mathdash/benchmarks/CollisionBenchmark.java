@@ -0,0 +1,83 @@
+package io.github.mathdash.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import io.github.mathdash.engine.collision.BruteForceBroadPhase;
+import io.github.mathdash.engine.collision.Collidable;
+import io.github.mathdash.engine.collision.CollisionManager;
+import io.github.mathdash.engine.collision.CollisionResult;
+import io.github.mathdash.engine.collision.SpatialHashBroadPhase;
+
+/**
+ * One full CollisionManager.checkCollisions() pass over N 48x48 boxes
+ * scattered across the 800x600 world, with either broadphase.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CollisionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int collidables;
+
+    @Param({"spatial", "brute"})
+    public String broadPhase;
+
+    private CollisionManager manager;
+    private Box[] boxes;
+
+    @Setup
+    public void setup() {
+        manager = new CollisionManager("brute".equals(broadPhase)
+            ? new BruteForceBroadPhase()
+            : new SpatialHashBroadPhase());
+
+        Random random = new Random(42);
+        boxes = new Box[collidables];
+        for (int i = 0; i < collidables; i++) {
+            boxes[i] = new Box(random.nextFloat() * 800f, random.nextFloat() * 600f);
+            manager.addObject(boxes[i]);
+        }
+    }
+
+    @Benchmark
+    public void checkCollisions(Blackhole blackhole) {
+        manager.checkCollisions();
+        blackhole.consume(boxes[0].contacts);
+    }
+
+    /** Static 48x48 collidable that only counts its contacts. */
+    static final class Box implements Collidable {
+        private final Rectangle bounds;
+        int contacts;
+
+        Box(float x, float y) {
+            this.bounds = new Rectangle(x, y, 48f, 48f);
+        }
+
+        @Override
+        public Rectangle getBounds() {
+            return bounds;
+        }
+
+        @Override
+        public void onCollision(CollisionResult result) {
+            contacts++;
+        }
+
+        @Override
+        public boolean isCollidable() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.mathdash.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.mathdash.engine.entity.Entity;
+import io.github.mathdash.engine.entity.PhysicsBody;
+import io.github.mathdash.engine.entity.Renderable;
+import io.github.mathdash.engine.entity.Transform;
+
+/**
+ * Entity.getComponent through the Class overload (registry lookup) and the
+ * ComponentType overload (direct slot access), hit and miss.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ComponentLookupBenchmark {
+
+    private Entity entity;
+
+    @Setup
+    public void setup() {
+        entity = new Entity() { };
+        entity.addComponent(new Transform(1f, 2f));
+        entity.addComponent(new PhysicsBody());
+    }
+
+    @Benchmark
+    public Transform getComponentByClass() {
+        return entity.getComponent(Transform.class);
+    }
+
+    @Benchmark
+    public Transform getComponentByType() {
+        return entity.getComponent(Transform.TYPE);
+    }
+
+    @Benchmark
+    public Renderable getMissingComponentByClass() {
+        return entity.getComponent(Renderable.class);
+    }
+
+    @Benchmark
+    public Renderable getMissingComponentByType() {
+        return entity.getComponent(Renderable.TYPE);
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.mathdash.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.github.mathdash.engine.entity.Entity;
+import io.github.mathdash.engine.entity.EntityManager;
+import io.github.mathdash.engine.entity.PhysicsBody;
+import io.github.mathdash.engine.entity.Transform;
+
+/**
+ * EntityManager.update() with a steady population, and under churn where
+ * every update also has to process queued additions and removals
+ * (processPending runs at the start of update()).
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EntityManagerBenchmark {
+
+    private static final float DELTA = 1f / 120f;
+
+    @Param({"100", "1000"})
+    public int entities;
+
+    /** Entities removed and re-added per update in the churn benchmark. */
+    @Param({"10"})
+    public int churn;
+
+    private EntityManager manager;
+    private BenchEntity[] live;
+    private BenchEntity[] spare;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        manager = new EntityManager();
+        live = new BenchEntity[entities];
+        for (int i = 0; i < entities; i++) {
+            live[i] = new BenchEntity();
+            manager.addEntity(live[i]);
+        }
+        spare = new BenchEntity[churn];
+        for (int i = 0; i < churn; i++) {
+            spare[i] = new BenchEntity();
+        }
+        manager.update(DELTA);
+    }
+
+    @TearDown
+    public void tearDown() {
+        manager.dispose();
+    }
+
+    @Benchmark
+    public void update() {
+        manager.update(DELTA);
+    }
+
+    @Benchmark
+    public void updateWithChurn() {
+        // Swap `churn` live entities for spare ones; the manager sees k removals and k additions
+        for (int i = 0; i < churn; i++) {
+            int slot = (cursor + i) % entities;
+            BenchEntity outgoing = live[slot];
+            manager.removeEntity(outgoing);
+            manager.addEntity(spare[i]);
+            live[slot] = spare[i];
+            spare[i] = outgoing;
+        }
+        cursor = (cursor + churn) % entities;
+        manager.update(DELTA);
+    }
+
+    /** Unpooled entity with the components a scrolling obstacle carries. */
+    static final class BenchEntity extends Entity {
+        BenchEntity() {
+            addComponent(new Transform(0f, 0f));
+            addComponent(new PhysicsBody());
+        }
+
+        // Removed entities are disposed by the manager; keep them reusable for the next swap
+        @Override
+        public void dispose() {
+        }
+    }
+}
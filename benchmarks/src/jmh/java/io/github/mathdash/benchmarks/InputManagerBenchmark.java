@@ -0,0 +1,53 @@
+package io.github.mathdash.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.backends.headless.mock.input.MockInput;
+
+import io.github.mathdash.engine.inputoutput.InputAction;
+import io.github.mathdash.engine.inputoutput.InputAxis;
+import io.github.mathdash.engine.inputoutput.InputBindings;
+import io.github.mathdash.engine.inputoutput.InputManager;
+
+/**
+ * InputManager.update() with the game's default bindings plus one axis.
+ * Gdx.input is a MockInput, so the cost measured is InputManager's own
+ * bookkeeping rather than device polling.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InputManagerBenchmark {
+
+    private InputManager inputManager;
+
+    @Setup
+    public void setup() {
+        Gdx.input = new MockInput();
+
+        InputBindings bindings = new InputBindings();
+        bindings.bindAction(InputAction.JUMP, Input.Keys.UP);
+        bindings.bindAction(InputAction.JUMP, Input.Keys.W);
+        bindings.bindAction(InputAction.CONFIRM, Input.Keys.DOWN);
+        bindings.bindAction(InputAction.CONFIRM, Input.Keys.S);
+        bindings.bindAction(InputAction.TOGGLE_PAUSE, Input.Keys.ESCAPE);
+        bindings.bindAction(InputAction.TOGGLE_PAUSE, Input.Keys.P);
+        bindings.bindAction(InputAction.TOGGLE_MUTE, Input.Keys.M);
+        bindings.bindAxis(InputAxis.MOVE_X, Input.Keys.LEFT, Input.Keys.RIGHT);
+        inputManager = new InputManager(bindings);
+    }
+
+    @Benchmark
+    public boolean update() {
+        inputManager.update();
+        inputManager.consumeActions();
+        return inputManager.isActionTriggered(InputAction.JUMP);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.mathdash.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.mathdash.logic.math.Level1;
+import io.github.mathdash.logic.math.Level2;
+import io.github.mathdash.logic.math.Level3;
+import io.github.mathdash.logic.math.Level4;
+import io.github.mathdash.logic.math.MathQuestion;
+import io.github.mathdash.logic.math.Questions;
+
+/**
+ * generate() for each level's question strategy.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class QuestionGenerationBenchmark {
+
+    @Param({"1", "2", "3", "4"})
+    public int level;
+
+    private Questions questions;
+    private final MathQuestion question = new MathQuestion();
+
+    @Setup
+    public void setup() {
+        switch (level) {
+            case 1:
+                questions = new Level1();
+                break;
+            case 2:
+                questions = new Level2();
+                break;
+            case 3:
+                questions = new Level3();
+                break;
+            default:
+                questions = new Level4();
+                break;
+        }
+    }
+
+    @Benchmark
+    public MathQuestion generate() {
+        questions.generate(question);
+        return question;
+    }
+}
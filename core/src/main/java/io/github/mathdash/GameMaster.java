@@ -1,38 +1,118 @@
 package io.github.mathdash;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.MathUtils;
+
+import java.io.IOException;
+
+import io.github.mathdash.benchmark.BenchmarkConfig;
+import io.github.mathdash.benchmark.FrameTimeRecorder;
 
 import io.github.mathdash.engine.ServiceLocator;
+import io.github.mathdash.engine.debug.SessionRecorder;
+import io.github.mathdash.engine.debug.Trace;
+import io.github.mathdash.engine.graphics.FontCache;
 import io.github.mathdash.engine.inputoutput.AudioManager;
 import io.github.mathdash.engine.inputoutput.InputBindings;
 import io.github.mathdash.engine.inputoutput.InputManager;
 import io.github.mathdash.engine.inputoutput.InputAction;
+import io.github.mathdash.engine.scene.FixedTimestep;
+import io.github.mathdash.engine.scene.Scene;
 import io.github.mathdash.engine.scene.SceneManager;
 import io.github.mathdash.logic.scene.DeathScene;
 import io.github.mathdash.logic.scene.GameScene;
 import io.github.mathdash.logic.scene.MainMenuScene;
 import io.github.mathdash.logic.scene.PauseScene;
+import io.github.mathdash.logic.math.MathQuestionGenerator;
+import io.github.mathdash.logic.simulation.SimulationBot;
+import io.github.mathdash.logic.util.GameAtlas;
 
 /**
  * GameMaster - Main application entry point.
  *
  * Bootstraps the ServiceLocator with shared engine services (AudioManager,
- * InputManager), then wires all scenes together via SceneManager.
+ * InputManager, the shared GameAtlas and FontCache), then wires all scenes together via SceneManager.
+ *
+ * Scenes are updated in fixed steps (FixedTimestep, 120 Hz by default) so
+ * gameplay does not depend on frame rate; rendering happens once per frame
+ * and interpolates between the last two steps.
+ *
+ * When the launch options include a BenchmarkConfig, skips the menu and runs a
+ * scripted, seeded GameScene for a fixed number of steps (one per frame),
+ * then writes frame-time percentiles and render-call counts to a file.
+ *
+ * When given a trace path, records frame, scene and gameplay-phase spans to
+ * that file as Chrome trace-event JSON for the whole session. When given a
+ * stats path, records every frame time into per-scene/per-level histograms
+ * with GC counts (SessionRecorder) and writes them as CSV every minute and
+ * on exit.
  */
 public class GameMaster extends ApplicationAdapter {
 
     private SpriteBatch batch;
+    private TextureAtlas atlas;
+    private FontCache fonts;
     private SceneManager sceneManager;
     private AudioManager audioManager;
     private InputManager inputManager;
+    private final FixedTimestep timestep = new FixedTimestep();
+    private long lastDroppedSteps;
+
+    // Benchmark mode (null for normal play)
+    private final BenchmarkConfig benchmark;
+    private FrameTimeRecorder frameRecorder;
+    private int benchmarkStepsLeft;
+    private boolean benchmarkFinished;
+    private long lastFrameStart;
+    private int lastTotalRenderCalls;
+
+    // Trace output file (null when tracing is off)
+    private final String tracePath;
+
+    // Session frame-time statistics (null when recording is off)
+    private static final float STATS_DUMP_INTERVAL_SECONDS = 60f;
+    private final String statsPath;
+    private SessionRecorder sessionRecorder;
+    private long lastSessionFrame;
+    private Scene statsScene;
+    private int statsLevel;
+    private int currentLevel;
+
+    public GameMaster() {
+        this(new LaunchOptions());
+    }
+
+    public GameMaster(LaunchOptions options) {
+        this.benchmark = options.getBenchmark();
+        this.tracePath = options.getTracePath();
+        this.statsPath = options.getStatsPath();
+    }
 
     @Override
     public void create() {
+        if (tracePath != null) {
+            startTrace();
+        }
+        if (statsPath != null) {
+            sessionRecorder = new SessionRecorder(Gdx.files.local(statsPath).file(), STATS_DUMP_INTERVAL_SECONDS);
+        }
         batch = new SpriteBatch();
 
+        // One shared sprite atlas so scenes draw without texture switches
+        atlas = GameAtlas.build();
+        ServiceLocator.provide(atlas);
+
+        // Fonts are shared by (size, color, border) so scenes never rasterise the same one twice,
+        // and persisted so later runs skip FreeType entirely
+        fonts = new FontCache(Gdx.files.internal("arial.ttf"), fontCacheDirectory());
+        ServiceLocator.provide(fonts);
+
         // Bootstrap shared services via ServiceLocator (Singleton / Service Locator pattern)
         audioManager = new AudioManager();
         audioManager.loadSound("select", "kenney_new-platformer-pack-1.1/Sounds/sfx_select.ogg");
@@ -52,21 +132,31 @@ public class GameMaster extends ApplicationAdapter {
         bindings.bindAction(InputAction.TOGGLE_PAUSE, com.badlogic.gdx.Input.Keys.ESCAPE);
         bindings.bindAction(InputAction.TOGGLE_PAUSE, com.badlogic.gdx.Input.Keys.P);
         bindings.bindAction(InputAction.TOGGLE_MUTE, com.badlogic.gdx.Input.Keys.M);
+        bindings.bindAction(InputAction.TOGGLE_DEBUG, com.badlogic.gdx.Input.Keys.F3);
         inputManager = new InputManager(bindings);
         ServiceLocator.provide(inputManager);
 
         sceneManager = new SceneManager();
 
+        if (benchmark != null) {
+            startBenchmark();
+            return;
+        }
+
         try {
             MainMenuScene mainMenu = new MainMenuScene(sceneManager, this::startGame);
             sceneManager.addScene(mainMenu);
             sceneManager.setScene("mainmenu");
+            // The first frame's delta covers the atlas, font and scene loading above
+            timestep.reset();
         } catch (Exception e) {
             Gdx.app.error("GameMaster", "Failed to initialize scenes", e);
         }
     }
 
     private void startGame(int level) {
+        Trace.begin("GameMaster.startGame");
+        currentLevel = level;
         try {
             cleanupGameScenes();
 
@@ -81,19 +171,38 @@ public class GameMaster extends ApplicationAdapter {
             deathScene.setFinalScore(0);
             deathScene.setLevel(level);
 
+            if (benchmark != null) {
+                gameScene.setAutopilot(new SimulationBot(1f));
+            }
+
             sceneManager.addScene(gameScene);
             sceneManager.addScene(pauseScene);
             sceneManager.addScene(deathScene);
 
             sceneManager.setScene("game");
+            // Loading the level must not turn into a burst of catch-up steps
+            timestep.reset();
         } catch (Exception e) {
             Gdx.app.error("GameMaster", "Failed to start game level " + level, e);
         }
+        Trace.end("GameMaster.startGame");
+    }
+
+    // Desktop runs use assets/ as the working directory, so keep generated files out of it
+    private static FileHandle fontCacheDirectory() {
+        if (Gdx.app.getType() == Application.ApplicationType.Desktop && Gdx.files.isExternalStorageAvailable()) {
+            return Gdx.files.external(".mathdash/font-cache");
+        }
+        return Gdx.files.local("font-cache");
     }
 
     private void returnToMainMenu() {
+        currentLevel = 0;
         cleanupGameScenes();
         sceneManager.setScene("mainmenu");
+        timestep.reset();
+        // Game fonts stay cached across restarts; drop them once the player has left the run
+        fonts.trim();
     }
 
     private void cleanupGameScenes() {
@@ -110,12 +219,146 @@ public class GameMaster extends ApplicationAdapter {
 
     @Override
     public void render() {
+        if (sessionRecorder != null) {
+            recordSessionFrame();
+        }
+        Trace.begin("frame");
         Gdx.gl.glClearColor(0.1f, 0.1f, 0.2f, 1f);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        float deltaTime = Gdx.graphics.getDeltaTime();
-        sceneManager.update(deltaTime);
-        sceneManager.render(batch);
+        if (benchmark != null) {
+            renderBenchmarkFrame();
+        } else {
+            renderFrame();
+        }
+        Trace.end("frame");
+    }
+
+    private void renderFrame() {
+        int steps = timestep.advance(Gdx.graphics.getDeltaTime());
+        if (timestep.getDroppedSteps() != lastDroppedSteps) {
+            lastDroppedSteps = timestep.getDroppedSteps();
+            Trace.instant("fixed steps dropped");
+        }
+
+        // Poll once per frame; triggered actions are consumed by the first step that runs
+        inputManager.update();
+        for (int i = 0; i < steps; i++) {
+            sceneManager.update(timestep.getStepSeconds());
+            inputManager.consumeActions();
+        }
+        sceneManager.render(batch, timestep.getAlpha());
+    }
+
+    // ---- Session statistics ----
+
+    // Attributes the frame that just ended to the scene and level it showed.
+    private void recordSessionFrame() {
+        long now = System.nanoTime();
+        if (lastSessionFrame != 0L) {
+            sessionRecorder.recordFrame(now - lastSessionFrame);
+        }
+        lastSessionFrame = now;
+
+        Scene scene = sceneManager.getCurrentScene();
+        if (scene != statsScene || currentLevel != statsLevel) {
+            statsScene = scene;
+            statsLevel = currentLevel;
+            String name = scene != null ? scene.getName() : "none";
+            sessionRecorder.setContext(currentLevel > 0 ? name + " level " + currentLevel : name);
+        }
+    }
+
+    private void stopSessionRecorder() {
+        try {
+            sessionRecorder.close();
+            Gdx.app.log("GameMaster", "Session statistics written to " + sessionRecorder.getSummaryFile());
+        } catch (IOException e) {
+            Gdx.app.error("GameMaster", "Failed to write session statistics", e);
+        }
+        sessionRecorder = null;
+    }
+
+    // ---- Tracing ----
+
+    private void startTrace() {
+        try {
+            Trace.start(Gdx.files.local(tracePath).file());
+            Gdx.app.log("GameMaster", "Tracing to " + tracePath);
+        } catch (IOException e) {
+            Gdx.app.error("GameMaster", "Failed to start trace " + tracePath, e);
+        }
+    }
+
+    private void stopTrace() {
+        try {
+            long dropped = Trace.stop();
+            Gdx.app.log("GameMaster", "Trace written to " + tracePath
+                + (dropped > 0 ? " (" + dropped + " events dropped)" : ""));
+        } catch (IOException e) {
+            Gdx.app.error("GameMaster", "Failed to write trace " + tracePath, e);
+        }
+    }
+
+    // ---- Benchmark mode ----
+
+    private void startBenchmark() {
+        MathUtils.random.setSeed(benchmark.getSeed());
+        MathQuestionGenerator.setSeed(benchmark.getSeed());
+
+        int steps = Math.max(1, Math.round(benchmark.getSimulatedSeconds() / timestep.getStepSeconds()));
+        benchmarkStepsLeft = steps;
+        frameRecorder = new FrameTimeRecorder(steps);
+        Gdx.app.log("GameMaster", "Benchmark started: " + benchmark + " (" + steps + " frames)");
+        startGame(benchmark.getLevel());
+    }
+
+    // Exactly one fixed step per frame, so every machine simulates and draws the same frames.
+    private void renderBenchmarkFrame() {
+        if (benchmarkFinished) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastFrameStart != 0L) {
+            frameRecorder.record(now - lastFrameStart, batch.totalRenderCalls - lastTotalRenderCalls);
+        }
+        lastFrameStart = now;
+        lastTotalRenderCalls = batch.totalRenderCalls;
+
+        if (benchmarkStepsLeft <= 0) {
+            finishBenchmark();
+            return;
+        }
+        benchmarkStepsLeft--;
+
+        // Keyboard input is ignored so nothing perturbs the scripted run; the autopilot's
+        // GameScene restarts in place on death, so no frame reloads scenes or textures
+        sceneManager.update(timestep.getStepSeconds());
+        sceneManager.render(batch, 1f);
+    }
+
+    private int benchmarkRestarts() {
+        Scene game = sceneManager.getScene("game");
+        return game instanceof GameScene ? ((GameScene) game).getRestartCount() : 0;
+    }
+
+    private void finishBenchmark() {
+        String header = "MathDash benchmark\n"
+            + benchmark + "\n"
+            + "stepSeconds=" + timestep.getStepSeconds() + "\n"
+            + "restarts=" + benchmarkRestarts() + "\n"
+            + "display=" + Gdx.graphics.getWidth() + "x" + Gdx.graphics.getHeight() + "\n"
+            + "glRenderer=" + Gdx.gl.glGetString(GL20.GL_RENDERER) + "\n"
+            + "java=" + System.getProperty("java.version") + " (" + System.getProperty("os.name") + ")";
+        String report = frameRecorder.buildReport(header);
+        try {
+            Gdx.files.local(benchmark.getReportPath()).writeString(report, false);
+            Gdx.app.log("GameMaster", "Benchmark report written to " + benchmark.getReportPath() + "\n" + report);
+        } catch (Exception e) {
+            Gdx.app.error("GameMaster", "Failed to write benchmark report", e);
+        }
+        benchmarkFinished = true;
+        Gdx.app.exit();
     }
 
     @Override
@@ -125,12 +368,21 @@ public class GameMaster extends ApplicationAdapter {
 
     @Override
     public void dispose() {
+        if (sessionRecorder != null) {
+            stopSessionRecorder();
+        }
         if (sceneManager != null) {
             sceneManager.dispose();
         }
+        if (fonts != null) {
+            fonts.dispose();
+        }
         if (batch != null) {
             batch.dispose();
         }
+        if (atlas != null) {
+            atlas.dispose();
+        }
         if (audioManager != null) {
             audioManager.dispose();
         }
@@ -138,5 +390,8 @@ public class GameMaster extends ApplicationAdapter {
             inputManager.dispose();
         }
         ServiceLocator.reset();
+        if (Trace.isActive()) {
+            stopTrace();
+        }
     }
 }
\ No newline at end of file
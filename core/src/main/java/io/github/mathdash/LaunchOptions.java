@@ -0,0 +1,59 @@
+package io.github.mathdash;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.mathdash.benchmark.BenchmarkConfig;
+
+/**
+ * LaunchOptions - Diagnostics settings parsed from launcher arguments.
+ *
+ * Usage: [--trace FILE] [--stats BASE] [--benchmark ...]
+ *   --trace FILE   record a Chrome trace-event JSON timeline of the session
+ *   --stats BASE   record per-scene/per-level frame-time histograms and GC
+ *                  counts to BASE-summary.csv, BASE-histogram.csv, BASE-gc.csv
+ * All remaining arguments are handed to BenchmarkConfig.
+ */
+public class LaunchOptions {
+
+    private BenchmarkConfig benchmark;
+    private String tracePath;
+    private String statsPath;
+
+    public static LaunchOptions parse(String[] args) {
+        LaunchOptions options = new LaunchOptions();
+        List<String> rest = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!"--trace".equals(arg) && !"--stats".equals(arg)) {
+                rest.add(arg);
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + arg);
+            }
+            if ("--trace".equals(arg)) {
+                options.tracePath = args[++i];
+            } else {
+                options.statsPath = args[++i];
+            }
+        }
+        options.benchmark = BenchmarkConfig.parse(rest.toArray(new String[0]));
+        return options;
+    }
+
+    // Benchmark settings, or null for normal play.
+    public BenchmarkConfig getBenchmark() {
+        return benchmark;
+    }
+
+    // Trace output file, or null when tracing is off.
+    public String getTracePath() {
+        return tracePath;
+    }
+
+    // Base path of the session statistics CSVs, or null when recording is off.
+    public String getStatsPath() {
+        return statsPath;
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.mathdash.benchmark;
+
+/**
+ * BenchmarkConfig - Settings for a scripted benchmark run, parsed from
+ * launcher arguments.
+ *
+ * A run starts GameScene at a fixed level with a bot at the controls and a
+ * fixed RNG seed, and advances exactly one fixed simulation step per frame.
+ * Every build and machine therefore simulates and draws the same frames,
+ * and only the time they take differs.
+ *
+ * Usage: --benchmark [--level N] [--seconds S] [--seed N] [--out FILE]
+ */
+public class BenchmarkConfig {
+
+    public static final String FLAG = "--benchmark";
+
+    private int level = 1;
+    private float simulatedSeconds = 60f;
+    private long seed = 1234L;
+    private String reportPath = "benchmark-report.txt";
+
+    // Returns the benchmark settings, or null when the arguments do not contain --benchmark.
+    public static BenchmarkConfig parse(String[] args) {
+        if (args == null) {
+            return null;
+        }
+        boolean enabled = false;
+        BenchmarkConfig config = new BenchmarkConfig();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (FLAG.equals(arg)) {
+                enabled = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + arg);
+            }
+            String value = args[++i];
+            switch (arg) {
+                case "--level":
+                    config.level = Integer.parseInt(value);
+                    if (config.level < 1 || config.level > 4) {
+                        throw new IllegalArgumentException("--level must be between 1 and 4");
+                    }
+                    break;
+                case "--seconds":
+                    config.simulatedSeconds = Float.parseFloat(value);
+                    if (!(config.simulatedSeconds > 0f)) {
+                        throw new IllegalArgumentException("--seconds must be positive");
+                    }
+                    break;
+                case "--seed":
+                    config.seed = Long.parseLong(value);
+                    break;
+                case "--out":
+                    config.reportPath = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        return enabled ? config : null;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    // Length of the run in simulated time; the frame count is this divided by the fixed step.
+    public float getSimulatedSeconds() {
+        return simulatedSeconds;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Report file, relative to the working directory.
+    public String getReportPath() {
+        return reportPath;
+    }
+
+    @Override
+    public String toString() {
+        return "level=" + level + " seconds=" + simulatedSeconds + " seed=" + seed;
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.mathdash.benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * FrameTimeRecorder - Collects one wall-clock duration and render-call count
+ * per frame into preallocated arrays, then summarises them as percentiles.
+ *
+ * Recording never allocates, so the recorder does not disturb the frame
+ * times it measures.
+ */
+public class FrameTimeRecorder {
+
+    private final long[] frameNanos;
+    private final int[] renderCalls;
+    private int count;
+
+    public FrameTimeRecorder(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.frameNanos = new long[capacity];
+        this.renderCalls = new int[capacity];
+    }
+
+    // Records one frame. Frames beyond capacity are ignored.
+    public void record(long nanos, int calls) {
+        if (count < frameNanos.length) {
+            frameNanos[count] = nanos;
+            renderCalls[count] = calls;
+            count++;
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public boolean isFull() {
+        return count >= frameNanos.length;
+    }
+
+    // Nearest-rank percentile of the recorded frame times, in milliseconds (p in [0, 100]).
+    public double percentileMillis(double p) {
+        if (count == 0) {
+            return 0.0;
+        }
+        long[] sorted = Arrays.copyOf(frameNanos, count);
+        Arrays.sort(sorted);
+        return sorted[rankIndex(p, count)] / 1e6;
+    }
+
+    // ---- Reporting ----
+
+    // Builds a plain-text report. Allocates; call once at the end of a run.
+    public String buildReport(String header) {
+        long[] sorted = Arrays.copyOf(frameNanos, count);
+        Arrays.sort(sorted);
+
+        long totalNanos = 0;
+        long totalCalls = 0;
+        int maxCalls = 0;
+        for (int i = 0; i < count; i++) {
+            totalNanos += frameNanos[i];
+            totalCalls += renderCalls[i];
+            maxCalls = Math.max(maxCalls, renderCalls[i]);
+        }
+
+        StringBuilder sb = new StringBuilder(512);
+        if (header != null) {
+            sb.append(header).append('\n');
+        }
+        sb.append("frames=").append(count).append('\n');
+        if (count == 0) {
+            return sb.toString();
+        }
+        double wallSeconds = totalNanos / 1e9;
+        sb.append(String.format(Locale.ROOT, "wallSeconds=%.3f%n", wallSeconds));
+        sb.append(String.format(Locale.ROOT, "meanFps=%.1f%n", count / wallSeconds));
+        sb.append(String.format(Locale.ROOT, "frameMs.mean=%.3f%n", totalNanos / 1e6 / count));
+        sb.append(String.format(Locale.ROOT, "frameMs.p50=%.3f%n", sorted[rankIndex(50, count)] / 1e6));
+        sb.append(String.format(Locale.ROOT, "frameMs.p95=%.3f%n", sorted[rankIndex(95, count)] / 1e6));
+        sb.append(String.format(Locale.ROOT, "frameMs.p99=%.3f%n", sorted[rankIndex(99, count)] / 1e6));
+        sb.append(String.format(Locale.ROOT, "frameMs.max=%.3f%n", sorted[count - 1] / 1e6));
+        sb.append("renderCalls.total=").append(totalCalls).append('\n');
+        sb.append(String.format(Locale.ROOT, "renderCalls.perFrame=%.2f%n", (double) totalCalls / count));
+        sb.append("renderCalls.max=").append(maxCalls).append('\n');
+        return sb.toString();
+    }
+
+    private static int rankIndex(double p, int n) {
+        int rank = (int) Math.ceil(p / 100.0 * n);
+        return Math.min(Math.max(rank, 1), n) - 1;
+    }
+}
@@ -1,5 +1,8 @@
 package io.github.mathdash.engine;
 
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+
+import io.github.mathdash.engine.graphics.FontCache;
 import io.github.mathdash.engine.inputoutput.IAudioSystem;
 import io.github.mathdash.engine.inputoutput.IInputSystem;
 
@@ -11,6 +14,8 @@ public final class ServiceLocator {
 
     private static IAudioSystem audioSystem;
     private static IInputSystem inputSystem;
+    private static TextureAtlas atlas;
+    private static FontCache fonts;
 
     private ServiceLocator() {
         // Non-instantiable utility class
@@ -40,11 +45,35 @@ public final class ServiceLocator {
         return inputSystem;
     }
 
+    // ---- Graphics ----
+
+    /** Registers the application-wide sprite atlas. The provider keeps ownership and disposes it. */
+    public static void provide(TextureAtlas spriteAtlas) {
+        ServiceLocator.atlas = spriteAtlas;
+    }
+
+    /** Returns the registered sprite atlas, or null if none has been provided. */
+    public static TextureAtlas getAtlas() {
+        return atlas;
+    }
+
+    /** Registers the application-wide font cache. The provider keeps ownership and disposes it. */
+    public static void provide(FontCache fontCache) {
+        ServiceLocator.fonts = fontCache;
+    }
+
+    /** Returns the registered font cache, or null if none has been provided. */
+    public static FontCache getFonts() {
+        return fonts;
+    }
+
     // ---- Cleanup ----
 
     /** Clears all registered services. Call during application shutdown. */
     public static void reset() {
         audioSystem = null;
         inputSystem = null;
+        atlas = null;
+        fonts = null;
     }
 }
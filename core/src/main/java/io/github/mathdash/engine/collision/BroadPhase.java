@@ -0,0 +1,27 @@
+package io.github.mathdash.engine.collision;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * BroadPhase - Strategy for culling the candidate pairs handed to narrow-phase
+ * AABB testing in CollisionManager.
+ *
+ * Implementations receive only objects that have already passed validation,
+ * so they may read getBounds() without null/NaN checks. Pairs rejected by
+ * CollisionFilter must be dropped before any bounds math.
+ */
+public interface BroadPhase {
+
+    /**
+     * Appends every potentially overlapping pair to {@code outPairs} as
+     * consecutive entries (a0, b0, a1, b1, ...). For each pair, a appears
+     * before b in {@code collidables}, no pair is reported twice, and every
+     * pair passes the category/mask test in CollisionFilter.
+     */
+    void computePairs(Array<Collidable> collidables, Array<Collidable> outPairs);
+
+    /**
+     * Releases any per-frame state held by this broadphase.
+     */
+    void clear();
+}
@@ -0,0 +1,36 @@
+package io.github.mathdash.engine.collision;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * BruteForceBroadPhase - Reports every category/mask-compatible pair as a candidate (O(n^2)).
+ *
+ * Kept as a fallback for small worlds and for verifying other broadphases.
+ */
+public class BruteForceBroadPhase implements BroadPhase {
+
+    @Override
+    public void computePairs(Array<Collidable> collidables, Array<Collidable> outPairs) {
+        for (int i = 0; i < collidables.size; i++) {
+            Collidable a = collidables.get(i);
+            int categoryA = a.getCollisionCategory();
+            int maskA = a.getCollisionMask();
+            if (maskA == CollisionFilter.NONE) {
+                continue;
+            }
+            for (int j = i + 1; j < collidables.size; j++) {
+                Collidable b = collidables.get(j);
+                if (CollisionFilter.shouldCollide(categoryA, maskA,
+                        b.getCollisionCategory(), b.getCollisionMask())) {
+                    outPairs.add(a);
+                    outPairs.add(b);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        // Stateless
+    }
+}
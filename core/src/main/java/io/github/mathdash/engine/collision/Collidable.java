@@ -16,4 +16,14 @@ public interface Collidable {
 
     // Returns whether this entity is currently able to collide.
     boolean isCollidable();
+
+    // Returns the category bits this entity belongs to (see CollisionFilter).
+    default int getCollisionCategory() {
+        return CollisionFilter.DEFAULT_CATEGORY;
+    }
+
+    // Returns the category bits this entity wants to collide with (see CollisionFilter).
+    default int getCollisionMask() {
+        return CollisionFilter.ALL;
+    }
 }
@@ -0,0 +1,39 @@
+package io.github.mathdash.engine.collision;
+
+/**
+ * CollisionFilter - Category/mask bit helpers for Collidable filtering.
+ *
+ * Each Collidable belongs to one or more categories and declares a mask of
+ * the categories it wants to hit. A pair is tested only when each side's
+ * category is accepted by the other side's mask.
+ */
+public final class CollisionFilter {
+
+    /** Category used by Collidables that do not declare one. */
+    public static final int DEFAULT_CATEGORY = 1;
+
+    /** Mask that accepts every category. */
+    public static final int ALL = 0xFFFFFFFF;
+
+    /** Mask that accepts no category; the object never collides. */
+    public static final int NONE = 0;
+
+    private CollisionFilter() {
+        // Non-instantiable utility class
+    }
+
+    /**
+     * Returns true if the given category/mask pairs accept each other.
+     */
+    public static boolean shouldCollide(int categoryA, int maskA, int categoryB, int maskB) {
+        return (categoryA & maskB) != 0 && (categoryB & maskA) != 0;
+    }
+
+    /**
+     * Returns true if a and b accept each other's categories.
+     */
+    public static boolean shouldCollide(Collidable a, Collidable b) {
+        return shouldCollide(a.getCollisionCategory(), a.getCollisionMask(),
+            b.getCollisionCategory(), b.getCollisionMask());
+    }
+}
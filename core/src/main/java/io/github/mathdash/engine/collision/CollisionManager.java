@@ -3,20 +3,77 @@ package io.github.mathdash.engine.collision;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
 
+import io.github.mathdash.engine.util.IndexedArray;
+
 /**
  * CollisionManager - Generic AABB collision detection and notification.
  *
  * Responsibilities:
  *   - Maintain a registry of active Collidable objects
+ *   - Cull candidate pairs through a pluggable BroadPhase strategy
  *   - Detect overlaps each frame using axis-aligned bounding boxes
  *   - Resolve overlap geometry and notify both parties via onCollision()
  *   - Self-clean invalid or null entries with fault tolerance
+ *
+ * Registration and removal are constant time. Collidables are checked in
+ * registry order, which is insertion order until the first removal and
+ * unspecified afterwards (see IndexedArray).
  */
 public class CollisionManager {
 
-    private final Array<Collidable> collidables = new Array<>();
+    /** Largest coordinate or dimension accepted; anything beyond is treated as corrupt bounds. */
+    public static final float MAX_EXTENT = 1_000_000f;
+
+    private final IndexedArray<Collidable> collidables = new IndexedArray<>();
     private final Array<Collidable> toRemove = new Array<>();
 
+    // Per-frame scratch buffers, reused to avoid allocation
+    private final Array<Collidable> candidates = new Array<>();
+    private final Array<Collidable> pairs = new Array<>();
+
+    // Reused for every contact; see CollisionResult for the validity contract
+    private final CollisionResult resultA = new CollisionResult();
+    private final CollisionResult resultB = new CollisionResult();
+
+    private BroadPhase broadPhase;
+
+    /**
+     * Creates a CollisionManager using a SpatialHashBroadPhase with the default cell size.
+     */
+    public CollisionManager() {
+        this(new SpatialHashBroadPhase());
+    }
+
+    /**
+     * Creates a CollisionManager using the given broadphase strategy.
+     */
+    public CollisionManager(BroadPhase broadPhase) {
+        setBroadPhase(broadPhase);
+    }
+
+    // ---- Broadphase ----
+
+    /**
+     * Swaps the broadphase strategy. Use BruteForceBroadPhase to fall back
+     * to testing every pair.
+     */
+    public void setBroadPhase(BroadPhase broadPhase) {
+        if (broadPhase == null) {
+            throw new IllegalArgumentException("BroadPhase cannot be null.");
+        }
+        if (this.broadPhase != null) {
+            this.broadPhase.clear();
+        }
+        this.broadPhase = broadPhase;
+    }
+
+    /**
+     * Returns the active broadphase strategy.
+     */
+    public BroadPhase getBroadPhase() {
+        return broadPhase;
+    }
+
     // ---- Registry ----
 
     /**
@@ -24,7 +81,7 @@ public class CollisionManager {
      * Null objects, duplicates, and objects with invalid bounds are silently rejected.
      */
     public void addObject(Collidable obj) {
-        if (obj == null || collidables.contains(obj, true)) {
+        if (obj == null || collidables.contains(obj)) {
             return;
         }
 
@@ -40,14 +97,14 @@ public class CollisionManager {
      * Removes a Collidable from the registry.
      */
     public void removeObject(Collidable obj) {
-        collidables.removeValue(obj, true);
+        collidables.remove(obj);
     }
 
     /**
      * Returns the current list of registered Collidables (read-only intent).
      */
     public Array<Collidable> getCollidables() {
-        return collidables;
+        return collidables.items();
     }
 
     /**
@@ -56,6 +113,9 @@ public class CollisionManager {
     public void clear() {
         collidables.clear();
         toRemove.clear();
+        candidates.clear();
+        pairs.clear();
+        broadPhase.clear();
     }
 
     // ---- Per-frame check ----
@@ -63,54 +123,66 @@ public class CollisionManager {
     /**
      * Runs one full pass of collision detection and notification.
      *
-     * For every overlapping pair (a, b):
+     * Each registered object is validated once per frame; objects that fail
+     * are deferred for removal after the pass. The remaining collidable objects
+     * go through the broadphase, and only its candidate pairs (a, b) reach
+     * narrow-phase AABB testing. For every overlapping pair:
      *   - Computes overlap geometry and direction for each perspective
      *   - Calls a.onCollision(result) and b.onCollision(result)
      *
-     * Objects that fail validation mid-frame are deferred for removal
-     * after the loop to avoid modifying the list during iteration.
+     * The results passed to onCollision() are reused between contacts, so a
+     * steady-state pass performs no allocation.
      */
     public void checkCollisions() {
         toRemove.clear();
+        candidates.clear();
+        pairs.clear();
 
-        for (int i = 0; i < collidables.size; i++) {
-            for (int j = i + 1; j < collidables.size; j++) {
+        for (int i = 0; i < collidables.size(); i++) {
+            Collidable obj = collidables.get(i);
+            if (obj == null) {
+                continue;
+            }
+            if (!isValid(obj)) {
+                toRemove.add(obj);
+                continue;
+            }
+            if (obj.isCollidable()) {
+                candidates.add(obj);
+            }
+        }
 
-                Collidable a = collidables.get(i);
-                Collidable b = collidables.get(j);
+        if (candidates.size > 1) {
+            broadPhase.computePairs(candidates, pairs);
+        }
 
-                if (a == null || b == null) {
-                    continue;
-                }
+        for (int i = 0; i + 1 < pairs.size; i += 2) {
+            Collidable a = pairs.get(i);
+            Collidable b = pairs.get(i + 1);
 
-                if (!isValid(a)) { 
-                    toRemove.add(a); 
-                    continue; 
-                }
-                if (!isValid(b)) { 
-                    toRemove.add(b); 
-                    continue; 
-                }
-
-                if (!a.isCollidable() || !b.isCollidable()) {
-                    continue;
-                }
+            // An earlier callback in this pass may have disabled either object
+            if (!a.isCollidable() || !b.isCollidable()) {
+                continue;
+            }
 
-                try {
-                    if (detectCollision(a, b)) {
-                        notifySafely(a, resolveCollision(a, b));
-                        notifySafely(b, resolveCollision(b, a));
-                    }
-                } catch (Exception e) {
-                    System.err.println("[CollisionManager] Detection error: " + e.getMessage());
+            try {
+                if (detectCollision(a, b)) {
+                    notifySafely(a, resolveCollision(a, b, resultA));
+                    notifySafely(b, resolveCollision(b, a, resultB));
                 }
+            } catch (Exception e) {
+                System.err.println("[CollisionManager] Detection error: " + e.getMessage());
             }
         }
+        candidates.clear();
+        pairs.clear();
+        resultA.clear();
+        resultB.clear();
 
         // Deferred removal of invalid objects
         if (toRemove.size > 0) {
-            for (Collidable obj : toRemove) {
-                collidables.removeValue(obj, true);
+            for (int i = 0; i < toRemove.size; i++) {
+                collidables.remove(toRemove.get(i));
             }
             System.err.println("[CollisionManager] Removed " + toRemove.size + " invalid object(s)");
             toRemove.clear();
@@ -120,7 +192,8 @@ public class CollisionManager {
     // ---- Internal helpers ----
 
     /**
-     * Validates a Collidable's bounds for NaN, Infinity, and negative dimensions.
+     * Validates a Collidable's bounds: every value finite and within
+     * MAX_EXTENT, and no negative dimensions.
      */
     private boolean isValid(Collidable obj) {
         if (obj == null) return false;
@@ -129,10 +202,7 @@ public class CollisionManager {
             if (b == null) {
                 return false;
             }
-            if (Float.isNaN(b.x) || Float.isInfinite(b.x))  {
-                return false;
-            }
-            if (Float.isNaN(b.y) || Float.isInfinite(b.y))  {
+            if (!isSane(b.x) || !isSane(b.y) || !isSane(b.width) || !isSane(b.height)) {
                 return false;
             }
             if (b.width < 0 || b.height < 0) {
@@ -144,6 +214,11 @@ public class CollisionManager {
         }
     }
 
+    // Rejects NaN and infinities too, since every comparison with NaN is false
+    private static boolean isSane(float value) {
+        return value >= -MAX_EXTENT && value <= MAX_EXTENT;
+    }
+
     /**
      * Returns true if the bounding boxes of a and b overlap.
      */
@@ -156,7 +231,10 @@ public class CollisionManager {
         return ra.overlaps(rb);
     }
 
-    private CollisionResult resolveCollision(Collidable a, Collidable b) {
+    /**
+     * Fills {@code out} with the overlap geometry and direction of a against b.
+     */
+    private CollisionResult resolveCollision(Collidable a, Collidable b, CollisionResult out) {
         Rectangle ra = a.getBounds();
         Rectangle rb = b.getBounds();
 
@@ -170,7 +248,7 @@ public class CollisionManager {
             direction = (ra.y < rb.y) ? CollisionDirection.TOP : CollisionDirection.BOTTOM;
         }
 
-        return new CollisionResult(b, overlapX, overlapY, direction);
+        return out.set(b, overlapX, overlapY, direction);
     }
 
     /**
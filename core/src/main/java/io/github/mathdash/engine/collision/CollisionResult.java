@@ -1,22 +1,42 @@
 package io.github.mathdash.engine.collision;
 
 /**
- * CollisionResult - Immutable data object describing a detected collision
+ * CollisionResult - Data object describing a detected collision
  * from one Collidable's perspective.
+ *
+ * CollisionManager reuses its instances for every contact, so a result is
+ * only valid for the duration of the onCollision() call that received it.
+ * Copy out any values that need to outlive the callback.
  */
 public class CollisionResult {
 
-    private final Collidable other;
-    private final float overlapX;
-    private final float overlapY;
-    private final CollisionDirection direction;
+    private Collidable other;
+    private float overlapX;
+    private float overlapY;
+    private CollisionDirection direction;
+
+    /** Creates an empty result, to be filled by set(). */
+    public CollisionResult() {
+    }
 
     public CollisionResult(Collidable other, float overlapX, float overlapY,
                            CollisionDirection direction) {
+        set(other, overlapX, overlapY, direction);
+    }
+
+    /** Overwrites this result in place. Returns this for chaining. */
+    public CollisionResult set(Collidable other, float overlapX, float overlapY,
+                               CollisionDirection direction) {
         this.other = other;
         this.overlapX = overlapX;
         this.overlapY = overlapY;
         this.direction = direction;
+        return this;
+    }
+
+    /** Drops the reference to the other Collidable so it can be collected. */
+    public void clear() {
+        set(null, 0f, 0f, null);
     }
 
     /** The other Collidable involved in this collision. */
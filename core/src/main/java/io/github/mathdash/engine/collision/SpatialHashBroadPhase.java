@@ -0,0 +1,186 @@
+package io.github.mathdash.engine.collision;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * SpatialHashBroadPhase - Uniform-grid broadphase keyed on each object's bounds.
+ *
+ * Every frame each collidable is inserted into the cells its Rectangle covers,
+ * and only objects that share a cell become candidate pairs. A pair spanning
+ * several shared cells is reported once, from the first cell both objects
+ * occupy (the lowest shared column and row).
+ *
+ * Objects spanning more than MAX_CELL_SPAN cells on either axis are not
+ * hashed; they are tested against every other object instead, so the cell
+ * loops stay bounded whatever the bounds or cell size.
+ *
+ * Cell buckets are recycled between frames, so the steady state does not allocate.
+ */
+public class SpatialHashBroadPhase implements BroadPhase {
+
+    /** Default cell edge: two 48px sprites side by side. */
+    public static final float DEFAULT_CELL_SIZE = 96f;
+    /** Most cells an object may cover per axis before it is paired by brute force. */
+    public static final int MAX_CELL_SPAN = 64;
+
+    private final float cellSize;
+
+    private final LongMap<IntArray> cells = new LongMap<>();
+    private final Array<IntArray> usedBuckets = new Array<>();
+    private final Array<IntArray> freeBuckets = new Array<>();
+    private final IntArray usedCellX = new IntArray();
+    private final IntArray usedCellY = new IntArray();
+    private final IntArray oversized = new IntArray();
+
+    // Lowest cell covered and filter bits of each collidable, indexed like the input array
+    private int[] minCellX = new int[16];
+    private int[] minCellY = new int[16];
+    private int[] categories = new int[16];
+    private int[] masks = new int[16];
+    private boolean[] isOversized = new boolean[16];
+
+    public SpatialHashBroadPhase() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    public SpatialHashBroadPhase(float cellSize) {
+        if (!(cellSize > 0f) || Float.isInfinite(cellSize)) {
+            throw new IllegalArgumentException("Cell size must be a finite value greater than 0.");
+        }
+        this.cellSize = cellSize;
+    }
+
+    @Override
+    public void computePairs(Array<Collidable> collidables, Array<Collidable> outPairs) {
+        clear();
+        ensureCapacity(collidables.size);
+
+        // Insert every collidable into the cells its bounds cover
+        for (int i = 0; i < collidables.size; i++) {
+            Collidable c = collidables.get(i);
+            categories[i] = c.getCollisionCategory();
+            masks[i] = c.getCollisionMask();
+            isOversized[i] = false;
+            if (masks[i] == CollisionFilter.NONE) {
+                continue; // Opted out of all collisions; skip the bounds math
+            }
+
+            Rectangle b = c.getBounds();
+            long x0 = toCell(b.x);
+            long y0 = toCell(b.y);
+            long x1 = toCell(b.x + b.width);
+            long y1 = toCell(b.y + b.height);
+            if (x1 - x0 >= MAX_CELL_SPAN || y1 - y0 >= MAX_CELL_SPAN
+                || !fitsInt(x0) || !fitsInt(y0) || !fitsInt(x1) || !fitsInt(y1)) {
+                isOversized[i] = true;
+                oversized.add(i);
+                continue;
+            }
+            minCellX[i] = (int) x0;
+            minCellY[i] = (int) y0;
+
+            for (int cx = (int) x0; cx <= x1; cx++) {
+                for (int cy = (int) y0; cy <= y1; cy++) {
+                    bucket(cx, cy).add(i);
+                }
+            }
+        }
+
+        // Emit pairs per bucket; indices are ascending, so a always precedes b
+        for (int k = 0; k < usedBuckets.size; k++) {
+            IntArray bucket = usedBuckets.get(k);
+            if (bucket.size < 2) {
+                continue;
+            }
+            int cx = usedCellX.get(k);
+            int cy = usedCellY.get(k);
+            int[] items = bucket.items;
+
+            for (int p = 0; p < bucket.size; p++) {
+                int i = items[p];
+                for (int q = p + 1; q < bucket.size; q++) {
+                    int j = items[q];
+                    if (!CollisionFilter.shouldCollide(categories[i], masks[i], categories[j], masks[j])) {
+                        continue;
+                    }
+                    if (cx == Math.max(minCellX[i], minCellX[j])
+                        && cy == Math.max(minCellY[i], minCellY[j])) {
+                        outPairs.add(collidables.get(i));
+                        outPairs.add(collidables.get(j));
+                    }
+                }
+            }
+        }
+
+        // Oversized objects against everything else, each pair once and in index order
+        for (int k = 0; k < oversized.size; k++) {
+            int i = oversized.get(k);
+            for (int j = 0; j < collidables.size; j++) {
+                if (j == i || (isOversized[j] && j < i) || masks[j] == CollisionFilter.NONE) {
+                    continue;
+                }
+                if (!CollisionFilter.shouldCollide(categories[i], masks[i], categories[j], masks[j])) {
+                    continue;
+                }
+                outPairs.add(collidables.get(Math.min(i, j)));
+                outPairs.add(collidables.get(Math.max(i, j)));
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (int k = 0; k < usedBuckets.size; k++) {
+            IntArray bucket = usedBuckets.get(k);
+            bucket.clear();
+            freeBuckets.add(bucket);
+        }
+        usedBuckets.clear();
+        usedCellX.clear();
+        usedCellY.clear();
+        oversized.clear();
+        cells.clear();
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    // ---- Internal helpers ----
+
+    private long toCell(float coord) {
+        return (long) Math.floor(coord / cellSize);
+    }
+
+    private static boolean fitsInt(long cell) {
+        return cell > Integer.MIN_VALUE && cell < Integer.MAX_VALUE;
+    }
+
+    private IntArray bucket(int cx, int cy) {
+        long key = ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+        IntArray bucket = cells.get(key);
+        if (bucket == null) {
+            bucket = freeBuckets.size > 0 ? freeBuckets.pop() : new IntArray();
+            cells.put(key, bucket);
+            usedBuckets.add(bucket);
+            usedCellX.add(cx);
+            usedCellY.add(cy);
+        }
+        return bucket;
+    }
+
+    private void ensureCapacity(int n) {
+        if (minCellX.length >= n) {
+            return;
+        }
+        int capacity = Math.max(n, minCellX.length * 2);
+        minCellX = new int[capacity];
+        minCellY = new int[capacity];
+        categories = new int[capacity];
+        masks = new int[capacity];
+        isOversized = new boolean[capacity];
+    }
+}
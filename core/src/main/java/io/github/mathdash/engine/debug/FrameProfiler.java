@@ -0,0 +1,169 @@
+package io.github.mathdash.engine.debug;
+
+/**
+ * FrameProfiler - Times named phases of each frame and keeps a rolling
+ * window of per-frame samples for every phase.
+ *
+ * Phases are identified by their index into the names passed to the
+ * constructor. A phase may run several times per frame (e.g. once per
+ * fixed simulation step); its durations are summed until endFrame()
+ * stores the frame's total as one sample.
+ *
+ * While disabled, begin(), end() and endFrame() return after a field
+ * check and never read the clock. All storage is allocated up front, so
+ * enabled profiling does not allocate either.
+ *
+ * Independently of enabled, every phase is also reported to Trace as a
+ * span, so an active trace shows the same phases on its timeline.
+ */
+public class FrameProfiler {
+
+    public static final int DEFAULT_WINDOW = 120;
+
+    private final String[] phaseNames;
+    private final int window;
+
+    // Open begin() timestamps (0 = not started) and the current frame's running totals
+    private final long[] startNanos;
+    private final long[] frameNanos;
+
+    // Ring of per-frame samples: phase p, frame f lives at samples[p * window + f]
+    private final long[] samples;
+    private final long[] frameSamples;
+    private int cursor;
+    private int sampleCount;
+    private long lastFrameEnd;
+
+    private boolean enabled;
+
+    public FrameProfiler(String[] phaseNames) {
+        this(phaseNames, DEFAULT_WINDOW);
+    }
+
+    public FrameProfiler(String[] phaseNames, int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException("window must be at least 1");
+        }
+        this.phaseNames = phaseNames.clone();
+        this.window = window;
+        this.startNanos = new long[phaseNames.length];
+        this.frameNanos = new long[phaseNames.length];
+        this.samples = new long[phaseNames.length * window];
+        this.frameSamples = new long[window];
+    }
+
+    // ---- Recording ----
+
+    public void begin(int phase) {
+        Trace.begin(phaseNames[phase]);
+        if (!enabled) return;
+        startNanos[phase] = System.nanoTime();
+    }
+
+    public void end(int phase) {
+        Trace.end(phaseNames[phase]);
+        if (!enabled) return;
+        long start = startNanos[phase];
+        // Skip a phase that was already running when profiling was switched on
+        if (start != 0L) {
+            frameNanos[phase] += System.nanoTime() - start;
+            startNanos[phase] = 0L;
+        }
+    }
+
+    /** Closes the current frame, storing each phase's total and the frame's wall time. */
+    public void endFrame() {
+        if (!enabled) return;
+        long now = System.nanoTime();
+        for (int p = 0; p < phaseNames.length; p++) {
+            samples[p * window + cursor] = frameNanos[p];
+            frameNanos[p] = 0L;
+        }
+        frameSamples[cursor] = lastFrameEnd != 0L ? now - lastFrameEnd : 0L;
+        lastFrameEnd = now;
+
+        cursor = (cursor + 1) % window;
+        if (sampleCount < window) {
+            sampleCount++;
+        }
+    }
+
+    // ---- Control ----
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Turning profiling on starts a fresh window. */
+    public void setEnabled(boolean enabled) {
+        boolean wasEnabled = this.enabled;
+        this.enabled = enabled;
+        if (this.enabled && !wasEnabled) {
+            reset();
+        }
+    }
+
+    public void toggle() {
+        setEnabled(!enabled);
+    }
+
+    public void reset() {
+        for (int p = 0; p < phaseNames.length; p++) {
+            startNanos[p] = 0L;
+            frameNanos[p] = 0L;
+        }
+        cursor = 0;
+        sampleCount = 0;
+        lastFrameEnd = 0L;
+    }
+
+    // ---- Statistics (over the last getSampleCount() frames) ----
+
+    public int getPhaseCount() {
+        return phaseNames.length;
+    }
+
+    public String getPhaseName(int phase) {
+        return phaseNames[phase];
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public float getAverageMillis(int phase) {
+        return average(samples, phase * window);
+    }
+
+    public float getMaxMillis(int phase) {
+        return max(samples, phase * window);
+    }
+
+    // Wall time between consecutive endFrame() calls, i.e. the whole frame
+    public float getFrameAverageMillis() {
+        return average(frameSamples, 0);
+    }
+
+    public float getFrameMaxMillis() {
+        return max(frameSamples, 0);
+    }
+
+    private float average(long[] data, int offset) {
+        if (sampleCount == 0) {
+            return 0f;
+        }
+        long total = 0L;
+        for (int i = 0; i < sampleCount; i++) {
+            total += data[offset + i];
+        }
+        return total / (float) sampleCount / 1e6f;
+    }
+
+    private float max(long[] data, int offset) {
+        long max = 0L;
+        for (int i = 0; i < sampleCount; i++) {
+            max = Math.max(max, data[offset + i]);
+        }
+        return max / 1e6f;
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.mathdash.engine.debug;
+
+import java.util.Arrays;
+
+/**
+ * FrameTimeHistogram - Fixed-memory log-linear histogram of durations.
+ *
+ * Values are kept in microseconds. Below 64 us every microsecond has its
+ * own bucket; above that each power of two is split into 32 equal buckets,
+ * so any recorded value is known to within about 3%. Values up to ~134 s
+ * fit in 736 buckets (under 6 KB), however long the session runs; larger
+ * values are clamped into the last bucket but still count toward the max.
+ */
+public class FrameTimeHistogram {
+
+    private static final int SUB_BITS = 6;
+    private static final int LINEAR = 1 << SUB_BITS;
+    private static final int HALF = LINEAR / 2;
+    private static final long MAX_TRACKED_MICROS = (1L << 27) - 1;
+
+    private final long[] counts = new long[bucketIndex(MAX_TRACKED_MICROS) + 1];
+    private long count;
+    private long totalMicros;
+    private long minMicros = Long.MAX_VALUE;
+    private long maxMicros;
+
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1000L);
+    }
+
+    public void recordMicros(long micros) {
+        if (micros < 0L) {
+            micros = 0L;
+        }
+        counts[bucketIndex(Math.min(micros, MAX_TRACKED_MICROS))]++;
+        count++;
+        totalMicros += micros;
+        minMicros = Math.min(minMicros, micros);
+        maxMicros = Math.max(maxMicros, micros);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        count = 0L;
+        totalMicros = 0L;
+        minMicros = Long.MAX_VALUE;
+        maxMicros = 0L;
+    }
+
+    // ---- Statistics ----
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanMillis() {
+        return count == 0L ? 0.0 : totalMicros / 1000.0 / count;
+    }
+
+    public double getMinMillis() {
+        return count == 0L ? 0.0 : minMicros / 1000.0;
+    }
+
+    public double getMaxMillis() {
+        return maxMicros / 1000.0;
+    }
+
+    /**
+     * Upper bound of the bucket holding the p-th percentile (p in [0, 100]),
+     * in milliseconds, capped at the largest recorded value.
+     */
+    public double getPercentileMillis(double p) {
+        if (count == 0L) {
+            return 0.0;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(p / 100.0 * count));
+        long seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // The last bucket also holds clamped values, so only the max bounds it
+                long upper = i == counts.length - 1 ? maxMicros : getBucketUpperMicros(i);
+                return Math.min(upper, maxMicros) / 1000.0;
+            }
+        }
+        return maxMicros / 1000.0;
+    }
+
+    // ---- Buckets ----
+
+    public int getBucketCount() {
+        return counts.length;
+    }
+
+    public long getCountAt(int bucket) {
+        return counts[bucket];
+    }
+
+    /** Smallest value (in microseconds) that falls into the bucket. */
+    public static long getBucketLowerMicros(int bucket) {
+        if (bucket < LINEAR) {
+            return bucket;
+        }
+        int k = bucket - LINEAR;
+        int shift = k / HALF + 1;
+        return (long) (HALF + k % HALF) << shift;
+    }
+
+    /** Largest value (in microseconds) that falls into the bucket. */
+    public static long getBucketUpperMicros(int bucket) {
+        if (bucket < LINEAR) {
+            return bucket;
+        }
+        int shift = (bucket - LINEAR) / HALF + 1;
+        return getBucketLowerMicros(bucket) + (1L << shift) - 1;
+    }
+
+    private static int bucketIndex(long micros) {
+        if (micros < LINEAR) {
+            return (int) micros;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = msb - (SUB_BITS - 1);
+        return LINEAR + (shift - 1) * HALF + (int) ((micros >> shift) - HALF);
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.mathdash.engine.debug;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * GcMonitor - Reads cumulative collection counts and times from the JVM's
+ * GarbageCollectorMXBeans.
+ *
+ * The bean list is fetched once; each sample only reads the beans' counters,
+ * so it is cheap enough to call every frame.
+ */
+public class GcMonitor {
+
+    private final GarbageCollectorMXBean[] collectors;
+
+    public GcMonitor() {
+        List<GarbageCollectorMXBean> beans = ManagementFactory.getGarbageCollectorMXBeans();
+        collectors = beans.toArray(new GarbageCollectorMXBean[0]);
+    }
+
+    public int getCollectorCount() {
+        return collectors.length;
+    }
+
+    public String getCollectorName(int index) {
+        return collectors[index].getName();
+    }
+
+    /** Collections so far by one collector (0 if the JVM does not report it). */
+    public long getCollectionCount(int index) {
+        return Math.max(0L, collectors[index].getCollectionCount());
+    }
+
+    /** Accumulated collection time in milliseconds for one collector. */
+    public long getCollectionMillis(int index) {
+        return Math.max(0L, collectors[index].getCollectionTime());
+    }
+
+    /** Collections so far across all collectors. */
+    public long getTotalCount() {
+        long total = 0L;
+        for (int i = 0; i < collectors.length; i++) {
+            total += getCollectionCount(i);
+        }
+        return total;
+    }
+
+    /** Accumulated collection time across all collectors, in milliseconds. */
+    public long getTotalMillis() {
+        long total = 0L;
+        for (int i = 0; i < collectors.length; i++) {
+            total += getCollectionMillis(i);
+        }
+        return total;
+    }
+}
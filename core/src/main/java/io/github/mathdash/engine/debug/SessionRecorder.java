@@ -0,0 +1,243 @@
+package io.github.mathdash.engine.debug;
+
+import com.badlogic.gdx.utils.OrderedMap;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SessionRecorder - Records every frame of a long session into per-context
+ * FrameTimeHistograms, attributes garbage collections to the context they
+ * happened in, and writes the results as CSV.
+ *
+ * A context is a free-form label such as "game level 3" or "mainmenu";
+ * frames are also always recorded into a "session" total. Memory is fixed
+ * per context, so a 45-minute session costs the same as a 1-minute one.
+ *
+ * Three files are written next to the base path given to the constructor:
+ *   - base-summary.csv: frames, mean, p50/p90/p99/p99.9, max and GC per context
+ *   - base-histogram.csv: every non-empty bucket of every context
+ *   - base-gc.csv: totals per JVM collector
+ *
+ * Besides close(), the files are rewritten every dump interval so a session
+ * that crashes still leaves data behind. Interval dumps format the CSV on
+ * the calling thread but write the files on a background thread.
+ */
+public class SessionRecorder {
+
+    public static final String SESSION_CONTEXT = "session";
+
+    private final File summaryFile;
+    private final File histogramFile;
+    private final File gcFile;
+    private final long dumpIntervalNanos;
+
+    private final OrderedMap<String, ContextStats> contexts = new OrderedMap<>();
+    private final ContextStats session;
+    private ContextStats current;
+
+    private final GcMonitor gcMonitor = new GcMonitor();
+    private long lastGcCount;
+    private long lastGcMillis;
+
+    private long lastDump;
+    private ExecutorService dumpExecutor;
+
+    /**
+     * @param basePath path prefix of the CSV files, e.g. "session-stats"
+     * @param dumpIntervalSeconds how often to rewrite the files; 0 to write only on close()
+     */
+    public SessionRecorder(File basePath, float dumpIntervalSeconds) {
+        File parent = basePath.getAbsoluteFile().getParentFile();
+        String name = basePath.getName();
+        this.summaryFile = new File(parent, name + "-summary.csv");
+        this.histogramFile = new File(parent, name + "-histogram.csv");
+        this.gcFile = new File(parent, name + "-gc.csv");
+        this.dumpIntervalNanos = (long) (dumpIntervalSeconds * 1e9);
+
+        session = new ContextStats(SESSION_CONTEXT);
+        contexts.put(SESSION_CONTEXT, session);
+        current = session;
+        lastGcCount = gcMonitor.getTotalCount();
+        lastGcMillis = gcMonitor.getTotalMillis();
+        lastDump = System.nanoTime();
+    }
+
+    // ---- Recording ----
+
+    /** Attributes following frames to the given context. Allocates only for a new label. */
+    public void setContext(String label) {
+        ContextStats stats = contexts.get(label);
+        if (stats == null) {
+            stats = new ContextStats(label);
+            contexts.put(label, stats);
+        }
+        current = stats;
+    }
+
+    /** Records one frame's duration and any collections that finished since the previous frame. */
+    public void recordFrame(long frameNanos) {
+        session.histogram.recordNanos(frameNanos);
+        if (current != session) {
+            current.histogram.recordNanos(frameNanos);
+        }
+
+        long gcCount = gcMonitor.getTotalCount();
+        if (gcCount != lastGcCount) {
+            long gcMillis = gcMonitor.getTotalMillis();
+            current.addGc(gcCount - lastGcCount, gcMillis - lastGcMillis);
+            if (current != session) {
+                session.addGc(gcCount - lastGcCount, gcMillis - lastGcMillis);
+            }
+            lastGcCount = gcCount;
+            lastGcMillis = gcMillis;
+        }
+
+        if (dumpIntervalNanos > 0L) {
+            long now = System.nanoTime();
+            if (now - lastDump >= dumpIntervalNanos) {
+                lastDump = now;
+                dumpInBackground();
+            }
+        }
+    }
+
+    // ---- Output ----
+
+    /** Writes all three files now, waiting for any background dump first. */
+    public void close() throws IOException {
+        if (dumpExecutor != null) {
+            dumpExecutor.shutdown();
+            try {
+                dumpExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            dumpExecutor = null;
+        }
+        writeFile(summaryFile, buildSummary());
+        writeFile(histogramFile, buildHistogram());
+        writeFile(gcFile, buildGc());
+    }
+
+    public File getSummaryFile() {
+        return summaryFile;
+    }
+
+    private void dumpInBackground() {
+        if (dumpExecutor == null) {
+            dumpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "session-stats-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        final String summary = buildSummary();
+        final String histogram = buildHistogram();
+        final String gc = buildGc();
+        dumpExecutor.execute(() -> {
+            try {
+                writeFile(summaryFile, summary);
+                writeFile(histogramFile, histogram);
+                writeFile(gcFile, gc);
+            } catch (IOException e) {
+                // The next interval or close() tries again
+            }
+        });
+    }
+
+    private String buildSummary() {
+        StringBuilder sb = new StringBuilder(256 + contexts.size * 128);
+        sb.append("context,frames,mean_ms,p50_ms,p90_ms,p99_ms,p99_9_ms,max_ms,gc_count,gc_ms,gc_frames\n");
+        for (ContextStats stats : contexts.values()) {
+            FrameTimeHistogram h = stats.histogram;
+            sb.append(csv(stats.label)).append(',').append(h.getCount());
+            appendMillis(sb, h.getMeanMillis());
+            appendMillis(sb, h.getPercentileMillis(50));
+            appendMillis(sb, h.getPercentileMillis(90));
+            appendMillis(sb, h.getPercentileMillis(99));
+            appendMillis(sb, h.getPercentileMillis(99.9));
+            appendMillis(sb, h.getMaxMillis());
+            sb.append(',').append(stats.gcCount)
+                .append(',').append(stats.gcMillis)
+                .append(',').append(stats.gcFrames).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private String buildHistogram() {
+        StringBuilder sb = new StringBuilder(4096);
+        sb.append("context,lower_ms,upper_ms,count\n");
+        for (ContextStats stats : contexts.values()) {
+            FrameTimeHistogram h = stats.histogram;
+            for (int i = 0; i < h.getBucketCount(); i++) {
+                long n = h.getCountAt(i);
+                if (n == 0L) {
+                    continue;
+                }
+                sb.append(csv(stats.label));
+                appendMillis(sb, FrameTimeHistogram.getBucketLowerMicros(i) / 1000.0);
+                appendMillis(sb, FrameTimeHistogram.getBucketUpperMicros(i) / 1000.0);
+                sb.append(',').append(n).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private String buildGc() {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("collector,count,time_ms\n");
+        for (int i = 0; i < gcMonitor.getCollectorCount(); i++) {
+            sb.append(csv(gcMonitor.getCollectorName(i)))
+                .append(',').append(gcMonitor.getCollectionCount(i))
+                .append(',').append(gcMonitor.getCollectionMillis(i)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void appendMillis(StringBuilder sb, double millis) {
+        sb.append(',').append(String.format(Locale.ROOT, "%.3f", millis));
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static void writeFile(File file, String content) throws IOException {
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            out.write(content);
+        }
+    }
+
+    // ---- Per-context data ----
+
+    private static class ContextStats {
+        final String label;
+        final FrameTimeHistogram histogram = new FrameTimeHistogram();
+        long gcCount;
+        long gcMillis;
+        // Frames during which at least one collection completed
+        long gcFrames;
+
+        ContextStats(String label) {
+            this.label = label;
+        }
+
+        void addGc(long count, long millis) {
+            gcCount += count;
+            gcMillis += millis;
+            gcFrames++;
+        }
+    }
+}
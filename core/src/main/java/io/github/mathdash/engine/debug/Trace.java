@@ -0,0 +1,70 @@
+package io.github.mathdash.engine.debug;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Trace - Global begin/end spans and instant events for timeline traces.
+ *
+ * Until start() is called every method returns after one null check, so
+ * instrumentation can stay in place permanently. Span and event names
+ * should be constants; they are stored by reference, not copied.
+ *
+ * All calls must come from the render thread (see TraceRecorder).
+ */
+public final class Trace {
+
+    private static TraceRecorder recorder;
+
+    private Trace() {
+        // Non-instantiable utility class
+    }
+
+    /** Starts streaming events to a Chrome trace-event JSON file, replacing any running trace. */
+    public static void start(File file) throws IOException {
+        stop();
+        recorder = new TraceRecorder(file);
+    }
+
+    /**
+     * Flushes and closes the running trace, if any.
+     *
+     * @return the number of events dropped because the writer fell behind
+     */
+    public static long stop() throws IOException {
+        TraceRecorder current = recorder;
+        if (current == null) {
+            return 0L;
+        }
+        recorder = null;
+        current.close();
+        return current.getDroppedEvents();
+    }
+
+    public static boolean isActive() {
+        return recorder != null;
+    }
+
+    // ---- Events ----
+
+    public static void begin(String name) {
+        TraceRecorder r = recorder;
+        if (r != null) {
+            r.record(TraceRecorder.BEGIN, name);
+        }
+    }
+
+    public static void end(String name) {
+        TraceRecorder r = recorder;
+        if (r != null) {
+            r.record(TraceRecorder.END, name);
+        }
+    }
+
+    public static void instant(String name) {
+        TraceRecorder r = recorder;
+        if (r != null) {
+            r.record(TraceRecorder.INSTANT, name);
+        }
+    }
+}
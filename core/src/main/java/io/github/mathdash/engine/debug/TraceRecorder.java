@@ -0,0 +1,190 @@
+package io.github.mathdash.engine.debug;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * TraceRecorder - Streams trace events to a Chrome trace-event JSON file
+ * (viewable in chrome://tracing or ui.perfetto.dev).
+ *
+ * The recording thread stores each event's type, name and timestamp into a
+ * preallocated single-producer/single-consumer ring buffer: no locks and no
+ * allocation. A background writer thread drains the ring, formats JSON and
+ * writes it to disk. If the writer falls behind and the ring is full, new
+ * events are dropped and counted rather than stalling the frame.
+ *
+ * Events must be recorded from one thread (the render thread). The file
+ * uses the JSON array form, which trace viewers accept even without the
+ * closing bracket, so a trace of a crashed session still opens.
+ */
+public class TraceRecorder {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    static final byte BEGIN = 'B';
+    static final byte END = 'E';
+    static final byte INSTANT = 'i';
+
+    private static final long IDLE_PARK_NANOS = 5_000_000L;
+
+    // Ring storage; slot = sequence & mask
+    private final byte[] types;
+    private final String[] names;
+    private final long[] timestamps;
+    private final int mask;
+
+    // head: next sequence to write (producer); tail: next sequence to read (writer thread)
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private long droppedEvents;
+
+    private final File file;
+    private final Writer out;
+    private final long originNanos;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private IOException writeError;
+
+    public TraceRecorder(File file) throws IOException {
+        this(file, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens the file and starts the writer thread.
+     *
+     * @param capacity ring size in events; rounded up to a power of two
+     * @throws IOException if the file cannot be created
+     */
+    public TraceRecorder(File file, int capacity) throws IOException {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.types = new byte[size];
+        this.names = new String[size];
+        this.timestamps = new long[size];
+        this.mask = size - 1;
+        this.file = file;
+        this.out = new BufferedWriter(new OutputStreamWriter(
+            new FileOutputStream(file), StandardCharsets.UTF_8));
+        this.originNanos = System.nanoTime();
+
+        writerThread = new Thread(this::runWriter, "trace-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    // ---- Recording (producer thread) ----
+
+    void record(byte type, String name) {
+        long h = head.get();
+        if (h - tail.get() > mask) {
+            droppedEvents++;
+            return;
+        }
+        int slot = (int) (h & mask);
+        types[slot] = type;
+        names[slot] = name;
+        timestamps[slot] = System.nanoTime();
+        // Publishes the slot's fields to the writer thread
+        head.lazySet(h + 1);
+    }
+
+    /** Events discarded because the ring was full. */
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Stops the writer after it has drained every recorded event and closed
+     * the file. Call from the recording thread.
+     *
+     * @throws IOException if the trace could not be written
+     */
+    public void close() throws IOException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writeError != null) {
+            throw writeError;
+        }
+    }
+
+    // ---- Writing (writer thread) ----
+
+    private void runWriter() {
+        StringBuilder line = new StringBuilder(128);
+        try (Writer writer = out) {
+            writer.write("[\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":1,\"args\":{\"name\":\"render\"}}");
+            while (true) {
+                boolean stopping = !running;
+                if (drain(writer, line) == 0) {
+                    if (stopping) {
+                        break;
+                    }
+                    writer.flush();
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+            writer.write("\n]\n");
+        } catch (IOException e) {
+            writeError = e;
+        }
+    }
+
+    private int drain(Writer writer, StringBuilder line) throws IOException {
+        long t = tail.get();
+        long h = head.get();
+        for (long seq = t; seq < h; seq++) {
+            int slot = (int) (seq & mask);
+            appendEvent(line, types[slot], names[slot], timestamps[slot] - originNanos);
+            names[slot] = null;
+            writer.append(line);
+        }
+        // Hands the drained slots back to the producer
+        tail.lazySet(h);
+        return (int) (h - t);
+    }
+
+    private static void appendEvent(StringBuilder line, byte type, String name, long nanos) {
+        line.setLength(0);
+        line.append(",\n{\"name\":\"");
+        appendEscaped(line, name);
+        line.append("\",\"ph\":\"").append((char) type).append('"');
+        if (type == INSTANT) {
+            line.append(",\"s\":\"t\"");
+        }
+        // Microseconds with nanosecond precision
+        line.append(",\"ts\":").append(nanos / 1000).append('.');
+        long fraction = nanos % 1000;
+        if (fraction < 100) line.append('0');
+        if (fraction < 10) line.append('0');
+        line.append(fraction);
+        line.append(",\"pid\":1,\"tid\":1}");
+    }
+
+    private static void appendEscaped(StringBuilder line, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(' ');
+            } else {
+                line.append(c);
+            }
+        }
+    }
+}
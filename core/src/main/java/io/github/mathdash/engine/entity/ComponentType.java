@@ -0,0 +1,65 @@
+package io.github.mathdash.engine.entity;
+
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * ComponentType - Assigns each Component class a dense, stable int index.
+ *
+ * Entities store components in an array indexed by this id, so systems that
+ * hold a ComponentType (usually a static constant such as Transform.TYPE)
+ * skip the Class hash lookup entirely. Types are registered lazily on first
+ * use and indices are never reused. Not thread-safe; register from the game thread.
+ */
+public final class ComponentType<T extends Component> {
+
+    private static final ObjectMap<Class<? extends Component>, ComponentType<?>> TYPES = new ObjectMap<>();
+    private static int nextIndex = 0;
+
+    private final Class<T> type;
+    private final int index;
+
+    private ComponentType(Class<T> type, int index) {
+        this.type = type;
+        this.index = index;
+    }
+
+    // Returns the ComponentType for the given class, registering it on first use.
+    @SuppressWarnings("unchecked")
+    public static <T extends Component> ComponentType<T> of(Class<T> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Component type cannot be null.");
+        }
+        ComponentType<T> componentType = (ComponentType<T>) TYPES.get(type);
+        if (componentType == null) {
+            componentType = new ComponentType<>(type, nextIndex++);
+            TYPES.put(type, componentType);
+        }
+        return componentType;
+    }
+
+    // Returns the ComponentType for the given class, or null if it was never registered.
+    @SuppressWarnings("unchecked")
+    public static <T extends Component> ComponentType<T> find(Class<T> type) {
+        return type != null ? (ComponentType<T>) TYPES.get(type) : null;
+    }
+
+    // Returns the number of registered component types (one past the highest index).
+    public static int count() {
+        return nextIndex;
+    }
+
+    // Returns the dense index of this type.
+    public int getIndex() {
+        return index;
+    }
+
+    // Returns the component class this type stands for.
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentType[" + type.getSimpleName() + ", index=" + index + "]";
+    }
+}
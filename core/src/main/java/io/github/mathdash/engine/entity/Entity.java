@@ -1,79 +1,113 @@
 package io.github.mathdash.engine.entity;
 
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.utils.ObjectMap;
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * Entity - Abstract base for every object managed by the engine.
  * Uses a component-based architecture for flexible composition.
+ *
+ * Components live in an array slot indexed by their ComponentType, with a
+ * separate list that keeps update order equal to insertion order.
  */
 
 public abstract class Entity {
 
-    private final String id;
+    private final String name;
+    private int handle = EntityHandle.NONE;
     private boolean active;
-    private final ObjectMap<Class<? extends Component>, Component> components;
+    private Component[] componentSlots;
+    private final Array<Component> components;
+    private Pool<? extends Entity> pool;
+    private EntityManager manager;
 
-    // Creates a new Entity with an auto-generated unique ID.
+    // Creates a new anonymous Entity. It is identified by the int handle EntityManager assigns on add.
     public Entity() {
-        this(generateId());
+        this.name = null;
+        this.active = true;
+        this.componentSlots = new Component[Math.max(ComponentType.count(), 4)];
+        this.components = new Array<>(4);
     }
 
-    // Creates a new Entity with the given ID.
-    public Entity(String id) {
-        if (id == null || id.isEmpty()) {
-            throw new IllegalArgumentException("Entity ID cannot be null or empty.");
+    // Creates a new Entity with the given name, which EntityManager also indexes for lookup.
+    public Entity(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Entity name cannot be null or empty.");
         }
-        this.id = id;
+        this.name = name;
         this.active = true;
-        this.components = new ObjectMap<>();
-    }
-
-    // Generates a unique ID using libGDX's MathUtils and system time.
-    private static String generateId() {
-        return "entity_" + System.nanoTime() + "_" + MathUtils.random(0, 999999);
+        this.componentSlots = new Component[Math.max(ComponentType.count(), 4)];
+        this.components = new Array<>(4);
     }
 
     // ---- Component Management ----
 
     // Adds a component to this entity. Only one component of each type can exist on an entity at a time.
+    @SuppressWarnings("unchecked")
     public <T extends Component> Entity addComponent(T component) {
         if (component == null) {
             throw new IllegalArgumentException("Component cannot be null.");
         }
 
-        Class<? extends Component> type = component.getClass();
+        int index = ComponentType.of((Class<T>) component.getClass()).getIndex();
+        ensureSlot(index);
 
         // Dispose old component of same type if it exists
-        Component existing = components.get(type);
+        Component existing = componentSlots[index];
         if (existing != null) {
             existing.dispose();
+            components.removeValue(existing, true);
         }
 
-        components.put(type, component);
+        componentSlots[index] = component;
+        components.add(component);
         component.init(this);
+        notifyComponentsChanged();
         return this;
     }
 
     // Retrieves a component of the specified type from this entity.
-    @SuppressWarnings("unchecked")
+    // Thin wrapper over getComponent(ComponentType); hot paths should hold the ComponentType instead.
     public <T extends Component> T getComponent(Class<T> type) {
-        return (T) components.get(type);
+        ComponentType<T> componentType = ComponentType.find(type);
+        return componentType != null ? getComponent(componentType) : null;
+    }
+
+    // Retrieves a component by its ComponentType with a single array access.
+    @SuppressWarnings("unchecked")
+    public <T extends Component> T getComponent(ComponentType<T> type) {
+        int index = type.getIndex();
+        return index < componentSlots.length ? (T) componentSlots[index] : null;
     }
 
     // Checks whether this entity has a component of the given type.
     public boolean hasComponent(Class<? extends Component> type) {
-        return components.containsKey(type);
+        return getComponent(type) != null;
+    }
+
+    // Checks whether this entity has a component of the given ComponentType.
+    public boolean hasComponent(ComponentType<?> type) {
+        return getComponent(type) != null;
     }
 
     // Removes a component of the given type from this entity. The removed component is disposed before removal.
-    @SuppressWarnings("unchecked")
     public <T extends Component> T removeComponent(Class<T> type) {
-        Component removed = components.remove(type);
+        ComponentType<T> componentType = ComponentType.find(type);
+        return componentType != null ? removeComponent(componentType) : null;
+    }
+
+    // Removes a component by its ComponentType. The removed component is disposed before removal.
+    public <T extends Component> T removeComponent(ComponentType<T> type) {
+        T removed = getComponent(type);
         if (removed != null) {
+            componentSlots[type.getIndex()] = null;
+            components.removeValue(removed, true);
             removed.dispose();
+            notifyComponentsChanged();
         }
-        return (T) removed;
+        return removed;
     }
 
     // ---- Lifecycle Methods ----
@@ -82,24 +116,73 @@ public abstract class Entity {
     public void update(float deltaTime) {
         if (!active) return;
 
-        for (Component component : components.values()) {
-            component.update(deltaTime);
+        for (int i = 0; i < components.size; i++) {
+            components.get(i).update(deltaTime);
         }
     }
 
     // Called when this entity is being removed from the simulation. Disposes all attached components and releases resources.
     public void dispose() {
-        for (Component component : components.values()) {
-            component.dispose();
+        for (int i = 0; i < components.size; i++) {
+            components.get(i).dispose();
         }
         components.clear();
+        Arrays.fill(componentSlots, null);
+    }
+
+    // ---- Pooling ----
+
+    // Associates this entity with the pool it was obtained from. Called by PooledFactory.
+    public void setPool(Pool<? extends Entity> pool) {
+        this.pool = pool;
+    }
+
+    // Returns whether this entity is recycled through a pool instead of being disposed.
+    public boolean isPooled() {
+        return pool != null;
+    }
+
+    // Returns this entity to its pool, or disposes it if it is not pooled. Called by EntityManager on removal.
+    @SuppressWarnings("unchecked")
+    public void release() {
+        if (pool != null) {
+            ((Pool<Entity>) pool).free(this);
+        } else {
+            dispose();
+        }
+    }
+
+    // Called when a pooled entity is returned to its pool. Components are kept for reuse;
+    // subclasses override to clear per-spawn state and must call super.reset().
+    public void reset() {
+        this.active = true;
     }
 
     // ---- Getters and Setters ----
 
-    // Returns this entity's unique identifier.
-    public String getId() {
-        return id;
+    // Returns this entity's handle, or EntityHandle.NONE while it is not managed by an EntityManager.
+    public int getHandle() {
+        return handle;
+    }
+
+    // Assigned by EntityManager when the entity is added, and cleared on removal.
+    void setHandle(int handle) {
+        this.handle = handle;
+    }
+
+    // Set by EntityManager while the entity is managed, so component changes reach its queries.
+    void setManager(EntityManager manager) {
+        this.manager = manager;
+    }
+
+    // Returns this entity's name, or null if it is anonymous.
+    public String getName() {
+        return name;
+    }
+
+    // Returns whether this entity was created with a name.
+    public boolean isNamed() {
+        return name != null;
     }
 
     // Returns whether this entity is active. Inactive entities are skipped during update and render.
@@ -112,20 +195,27 @@ public abstract class Entity {
         this.active = active;
     }
 
-    @Override
-    public String toString() {
-        return getClass().getSimpleName() + "[id=" + id + ", active=" + active + "]";
+    // ---- Internal ----
+
+    // Lets the owning EntityManager re-evaluate this entity against its live queries.
+    private void notifyComponentsChanged() {
+        if (manager != null) {
+            manager.onComponentsChanged(this);
+        }
     }
 
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) return true;
-        if (!(obj instanceof Entity)) return false;
-        return this.id.equals(((Entity) obj).id);
+    // Grows the slot array so that the given ComponentType index fits.
+    private void ensureSlot(int index) {
+        if (index >= componentSlots.length) {
+            Component[] grown = new Component[Math.max(index + 1, componentSlots.length * 2)];
+            System.arraycopy(componentSlots, 0, grown, 0, componentSlots.length);
+            componentSlots = grown;
+        }
     }
 
     @Override
-    public int hashCode() {
-        return id.hashCode();
+    public String toString() {
+        return getClass().getSimpleName() + "[name=" + name + ", handle=" + EntityHandle.toString(handle)
+            + ", active=" + active + "]";
     }
-}
\ No newline at end of file
+}
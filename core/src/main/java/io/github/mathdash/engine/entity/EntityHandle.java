@@ -0,0 +1,49 @@
+package io.github.mathdash.engine.entity;
+
+/**
+ * EntityHandle - Packs an entity slot index and generation into one int.
+ *
+ * EntityManager hands out handles when entities are added. The slot index
+ * is recycled after removal, but its generation is bumped, so a stale
+ * handle to a removed entity never resolves to the slot's new occupant.
+ * Layout: low 20 bits index, high 12 bits generation. Generation 0 is never
+ * issued, so NONE (0) is never a valid handle.
+ */
+public final class EntityHandle {
+
+    /** Handle of an entity that is not managed by any EntityManager. */
+    public static final int NONE = 0;
+
+    static final int INDEX_BITS = 20;
+    static final int MAX_INDEX = (1 << INDEX_BITS) - 1;
+    static final int MAX_GENERATION = (1 << (32 - INDEX_BITS)) - 1;
+
+    private EntityHandle() {
+        // Non-instantiable utility class
+    }
+
+    // Builds a handle from a slot index and a generation in [1, MAX_GENERATION].
+    static int make(int index, int generation) {
+        return (generation << INDEX_BITS) | index;
+    }
+
+    // Returns the slot index encoded in a handle.
+    public static int index(int handle) {
+        return handle & MAX_INDEX;
+    }
+
+    // Returns the generation encoded in a handle.
+    public static int generation(int handle) {
+        return handle >>> INDEX_BITS;
+    }
+
+    // Returns the generation that follows the given one, skipping 0.
+    static int nextGeneration(int generation) {
+        return generation >= MAX_GENERATION ? 1 : generation + 1;
+    }
+
+    // Formats a handle as "index:generation" for logs.
+    public static String toString(int handle) {
+        return handle == NONE ? "none" : index(handle) + ":" + generation(handle);
+    }
+}
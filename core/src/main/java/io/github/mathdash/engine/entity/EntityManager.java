@@ -1,29 +1,56 @@
 package io.github.mathdash.engine.entity;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.ObjectMap;
 
+import io.github.mathdash.engine.graphics.RenderQueue;
+import io.github.mathdash.engine.util.IndexedArray;
+
 /**
  * EntityManager - Creates, manages, updates, and disposes all entities.
  * Uses deferred queues to safely add and remove entities during updates.
+ * Removed entities are released to their pool when they came from a PooledFactory.
+ *
+ * Every managed entity is identified by an int handle (see EntityHandle);
+ * named entities such as "player" are also reachable through a name index.
+ *
+ * Removal is constant time: the last entity is swapped into the removed
+ * entity's slot. Update and render therefore visit entities in insertion
+ * order only until the first removal; callers must not depend on it.
+ *
+ * Systems that look up entities every frame should hold an EntityQuery from
+ * query(...), which is kept up to date incrementally and never allocates.
  */
 
 public class EntityManager {
 
-    private final ObjectMap<String, Entity> entitiesById;
-    private final Array<Entity> entityList;
+    private final IntMap<Entity> entitiesByHandle;
+    private final ObjectMap<String, Entity> entitiesByName;
+    private final IndexedArray<Entity> entityList;
+
+    // Handle slot allocation: recycled indices and the current generation per index
+    private final IntArray freeIndices;
+    private final IntArray generations;
 
     // Deferred queues — processed at the start of each update cycle
     private final Array<Entity> pendingAdd;
     private final Array<Entity> pendingRemove;
 
+    // Live queries, refreshed on add/remove and on component changes
+    private final Array<EntityQuery<?>> queries;
+
     // Creates a new, empty EntityManager.
     public EntityManager() {
-        this.entitiesById = new ObjectMap<>();
-        this.entityList = new Array<>();
+        this.entitiesByHandle = new IntMap<>();
+        this.entitiesByName = new ObjectMap<>();
+        this.entityList = new IndexedArray<>();
+        this.freeIndices = new IntArray();
+        this.generations = new IntArray();
         this.pendingAdd = new Array<>();
         this.pendingRemove = new Array<>();
+        this.queries = new Array<>();
     }
 
     // ---- Entity Lifecycle ----
@@ -33,9 +60,12 @@ public class EntityManager {
         if (entity == null) {
             throw new IllegalArgumentException("Cannot add a null entity.");
         }
-        if (entitiesById.containsKey(entity.getId())) {
+        if (entity.getHandle() != EntityHandle.NONE) {
+            throw new IllegalArgumentException("Entity " + entity + " is already managed.");
+        }
+        if (entity.isNamed() && entitiesByName.containsKey(entity.getName())) {
             throw new IllegalArgumentException(
-                "An entity with ID '" + entity.getId() + "' already exists."
+                "An entity named '" + entity.getName() + "' already exists."
             );
         }
         pendingAdd.add(entity);
@@ -48,9 +78,17 @@ public class EntityManager {
         }
     }
 
-    // Queues an entity for removal by its ID.
-    public void removeEntity(String id) {
-        Entity entity = entitiesById.get(id);
+    // Queues an entity for removal by its handle.
+    public void removeEntity(int handle) {
+        Entity entity = getEntity(handle);
+        if (entity != null) {
+            pendingRemove.add(entity);
+        }
+    }
+
+    // Queues an entity for removal by its name.
+    public void removeEntity(String name) {
+        Entity entity = entitiesByName.get(name);
         if (entity != null) {
             pendingRemove.add(entity);
         }
@@ -61,8 +99,16 @@ public class EntityManager {
         // Process deferred operations first
         processPending();
 
+        // Mark the start of this step for render interpolation
+        for (int i = 0; i < entityList.size(); i++) {
+            Transform transform = entityList.get(i).getComponent(Transform.TYPE);
+            if (transform != null) {
+                transform.savePrevious();
+            }
+        }
+
         // Update all active entities
-        for (int i = 0; i < entityList.size; i++) {
+        for (int i = 0; i < entityList.size(); i++) {
             Entity entity = entityList.get(i);
             if (entity.isActive()) {
                 entity.update(deltaTime);
@@ -70,17 +116,23 @@ public class EntityManager {
         }
     }
 
-    // Renders all active entities that have both a Transform and Renderable component.
-    public void render(SpriteBatch batch) {
-        for (int i = 0; i < entityList.size; i++) {
+    // Queues all active entities that have both a Transform and Renderable component.
+    // The caller flushes the queue, which orders the sprites by layer and texture.
+    public void render(RenderQueue queue) {
+        render(queue, 1f);
+    }
+
+    // Queues all active entities, interpolating positions by alpha between the last two updates.
+    public void render(RenderQueue queue, float alpha) {
+        for (int i = 0; i < entityList.size(); i++) {
             Entity entity = entityList.get(i);
             if (!entity.isActive()) continue;
 
-            Renderable renderable = entity.getComponent(Renderable.class);
-            Transform transform = entity.getComponent(Transform.class);
+            Renderable renderable = entity.getComponent(Renderable.TYPE);
+            Transform transform = entity.getComponent(Transform.TYPE);
 
             if (renderable != null && transform != null) {
-                renderable.render(batch, transform);
+                renderable.render(queue, transform, alpha);
             }
         }
     }
@@ -94,23 +146,83 @@ public class EntityManager {
         pendingAdd.clear();
         pendingRemove.clear();
 
-        for (int i = 0; i < entityList.size; i++) {
-            entityList.get(i).dispose();
+        for (int i = 0; i < entityList.size(); i++) {
+            Entity entity = entityList.get(i);
+            entity.setHandle(EntityHandle.NONE);
+            entity.setManager(null);
+            entity.dispose();
+        }
+        for (int i = 0; i < queries.size; i++) {
+            queries.get(i).clear();
         }
         entityList.clear();
-        entitiesById.clear();
+        entitiesByHandle.clear();
+        entitiesByName.clear();
+        freeIndices.clear();
+        generations.clear();
     }
 
-    // Retrieves an entity by its unique ID.
-    public Entity getEntity(String id) {
-        return entitiesById.get(id);
+    // Retrieves an entity by its handle, or null if the handle is stale or unknown.
+    public Entity getEntity(int handle) {
+        if (handle == EntityHandle.NONE) {
+            return null;
+        }
+        return entitiesByHandle.get(handle);
+    }
+
+    // Retrieves a named entity.
+    public Entity getEntity(String name) {
+        return entitiesByName.get(name);
+    }
+
+    // ---- Queries ----
+
+    // Returns the cached live query for entities of the given type that have every listed component.
+    // The same query object is returned for the same signature; hold on to it instead of calling per frame.
+    public <T extends Entity> EntityQuery<T> query(Class<T> type, ComponentType<?>... required) {
+        if (type == null) {
+            throw new IllegalArgumentException("Query type cannot be null.");
+        }
+        for (int i = 0; i < required.length; i++) {
+            if (required[i] == null) {
+                throw new IllegalArgumentException("Query component types cannot be null.");
+            }
+        }
+        for (int i = 0; i < queries.size; i++) {
+            EntityQuery<?> existing = queries.get(i);
+            if (existing.hasSignature(type, required)) {
+                @SuppressWarnings("unchecked")
+                EntityQuery<T> typed = (EntityQuery<T>) existing;
+                return typed;
+            }
+        }
+
+        EntityQuery<T> created = new EntityQuery<>(type, required.clone());
+        for (int i = 0; i < entityList.size(); i++) {
+            created.refresh(entityList.get(i));
+        }
+        queries.add(created);
+        return created;
+    }
+
+    // Returns the cached live query for all entities that have every listed component.
+    public EntityQuery<Entity> query(ComponentType<?>... required) {
+        return query(Entity.class, required);
+    }
+
+    // Called by Entity when a component is attached or removed while it is managed.
+    void onComponentsChanged(Entity entity) {
+        for (int i = 0; i < queries.size; i++) {
+            queries.get(i).refresh(entity);
+        }
     }
 
     // Returns all entities of a given type (class or subclass).
+    // Allocates a new Array on every call; per-frame callers should use query(type) instead.
     @SuppressWarnings("unchecked")
     public <T> Array<T> getEntitiesByType(Class<T> type) {
         Array<T> result = new Array<>();
-        for (int i = 0; i < entityList.size; i++) {
+        for (int i = 0; i < entityList.size(); i++) {
             Entity entity = entityList.get(i);
             if (type.isInstance(entity)) {
                 result.add((T) entity);
@@ -120,9 +232,10 @@ public class EntityManager {
     }
 
     // Returns all entities that have a specific component type.
+    // Allocates a new Array on every call; per-frame callers should use query(ComponentType...) instead.
     public Array<Entity> getEntitiesWithComponent(Class<? extends Component> componentType) {
         Array<Entity> result = new Array<>();
-        for (int i = 0; i < entityList.size; i++) {
+        for (int i = 0; i < entityList.size(); i++) {
             Entity entity = entityList.get(i);
             if (entity.hasComponent(componentType)) {
                 result.add(entity);
@@ -133,12 +246,17 @@ public class EntityManager {
 
     // Returns the total number of managed entities (excluding pending).
     public int getEntityCount() {
-        return entityList.size;
+        return entityList.size();
     }
 
     // Returns a copy of all entities.
     public Array<Entity> getAllEntities() {
-        return new Array<>(entityList);
+        return new Array<>(entityList.items());
+    }
+
+    // Returns the live array of managed entities without copying (read-only intent).
+    public Array<Entity> getEntities() {
+        return entityList.items();
     }
 
     // ---- Internal ----
@@ -149,10 +267,20 @@ public class EntityManager {
         if (pendingRemove.size > 0) {
             for (int i = 0; i < pendingRemove.size; i++) {
                 Entity entity = pendingRemove.get(i);
-                if (entitiesById.containsKey(entity.getId())) {
-                    entityList.removeValue(entity, true);
-                    entitiesById.remove(entity.getId());
-                    entity.dispose();
+                int handle = entity.getHandle();
+                if (handle != EntityHandle.NONE && entitiesByHandle.get(handle) == entity) {
+                    entityList.remove(entity);
+                    entitiesByHandle.remove(handle);
+                    if (entity.isNamed()) {
+                        entitiesByName.remove(entity.getName());
+                    }
+                    for (int q = 0; q < queries.size; q++) {
+                        queries.get(q).remove(entity);
+                    }
+                    releaseHandle(handle);
+                    entity.setHandle(EntityHandle.NONE);
+                    entity.setManager(null);
+                    entity.release(); // back to its pool, or disposed if unpooled
                 }
             }
             pendingRemove.clear();
@@ -162,10 +290,44 @@ public class EntityManager {
         if (pendingAdd.size > 0) {
             for (int i = 0; i < pendingAdd.size; i++) {
                 Entity entity = pendingAdd.get(i);
-                entitiesById.put(entity.getId(), entity);
+                if (entity.getHandle() != EntityHandle.NONE) {
+                    continue; // queued twice
+                }
+                int handle = allocateHandle();
+                entity.setHandle(handle);
+                entitiesByHandle.put(handle, entity);
+                if (entity.isNamed()) {
+                    entitiesByName.put(entity.getName(), entity);
+                }
                 entityList.add(entity);
+                entity.setManager(this);
+                for (int q = 0; q < queries.size; q++) {
+                    queries.get(q).refresh(entity);
+                }
             }
             pendingAdd.clear();
         }
     }
+
+    // Returns a handle for a free slot, reusing removed indices first.
+    private int allocateHandle() {
+        int index;
+        if (freeIndices.size > 0) {
+            index = freeIndices.pop();
+        } else {
+            index = generations.size;
+            if (index > EntityHandle.MAX_INDEX) {
+                throw new IllegalStateException("Too many live entities (max " + EntityHandle.MAX_INDEX + ").");
+            }
+            generations.add(1);
+        }
+        return EntityHandle.make(index, generations.get(index));
+    }
+
+    // Invalidates a handle and makes its slot index available again.
+    private void releaseHandle(int handle) {
+        int index = EntityHandle.index(handle);
+        generations.set(index, EntityHandle.nextGeneration(generations.get(index)));
+        freeIndices.add(index);
+    }
 }
\ No newline at end of file
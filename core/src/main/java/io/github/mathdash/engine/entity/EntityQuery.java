@@ -0,0 +1,126 @@
+package io.github.mathdash.engine.entity;
+
+import com.badlogic.gdx.utils.Array;
+
+import io.github.mathdash.engine.util.IndexedArray;
+
+/**
+ * EntityQuery - A live view of the managed entities that are an instance of
+ * a given type and carry every required ComponentType.
+ *
+ * Queries are created and cached by EntityManager.query(...). The manager
+ * keeps them up to date incrementally as entities are added or removed and
+ * as components are attached or detached, so reading a query never scans
+ * or allocates. Active and inactive entities are both included, as in the
+ * rest of EntityManager.
+ *
+ * Iterate with size()/get(i) or entities(); do not modify the returned
+ * array. Order is unspecified (see IndexedArray).
+ */
+public final class EntityQuery<T extends Entity> {
+
+    private final Class<T> type;
+    private final ComponentType<?>[] required;
+    private final IndexedArray<T> matches;
+
+    EntityQuery(Class<T> type, ComponentType<?>[] required) {
+        this.type = type;
+        this.required = required;
+        this.matches = new IndexedArray<>();
+    }
+
+    // ---- Reading ----
+
+    // Returns the number of matching entities.
+    public int size() {
+        return matches.size();
+    }
+
+    // Returns the matching entity at the given position.
+    public T get(int index) {
+        return matches.get(index);
+    }
+
+    // Returns whether the given entity currently matches this query.
+    @SuppressWarnings("unchecked")
+    public boolean contains(Entity entity) {
+        return type.isInstance(entity) && matches.contains((T) entity);
+    }
+
+    // Returns the live backing array of matches (read-only intent).
+    public Array<T> entities() {
+        return matches.items();
+    }
+
+    // Returns the entity type this query filters on.
+    public Class<T> getType() {
+        return type;
+    }
+
+    // ---- Maintenance (EntityManager only) ----
+
+    // Re-evaluates one entity after it was added or its components changed.
+    @SuppressWarnings("unchecked")
+    void refresh(Entity entity) {
+        if (!type.isInstance(entity)) {
+            return;
+        }
+        T typed = (T) entity;
+        if (accepts(entity)) {
+            matches.add(typed);
+        } else {
+            matches.remove(typed);
+        }
+    }
+
+    // Drops an entity that is leaving the manager.
+    @SuppressWarnings("unchecked")
+    void remove(Entity entity) {
+        if (type.isInstance(entity)) {
+            matches.remove((T) entity);
+        }
+    }
+
+    void clear() {
+        matches.clear();
+    }
+
+    // Returns whether this query was built for exactly this type and component set.
+    boolean hasSignature(Class<?> otherType, ComponentType<?>[] otherRequired) {
+        if (type != otherType || required.length != otherRequired.length) {
+            return false;
+        }
+        for (int i = 0; i < otherRequired.length; i++) {
+            if (!requires(otherRequired[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ---- Internal ----
+
+    private boolean accepts(Entity entity) {
+        for (int i = 0; i < required.length; i++) {
+            if (!entity.hasComponent(required[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean requires(ComponentType<?> componentType) {
+        for (int i = 0; i < required.length; i++) {
+            if (required[i] == componentType) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityQuery[" + type.getSimpleName() + ", components=" + required.length
+            + ", size=" + matches.size() + "]";
+    }
+}
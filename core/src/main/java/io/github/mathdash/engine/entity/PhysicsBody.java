@@ -7,6 +7,9 @@ import com.badlogic.gdx.math.Vector2;
 
 public class PhysicsBody implements Component {
 
+    // Dense ComponentType id used by hot paths instead of the Class lookup.
+    public static final ComponentType<PhysicsBody> TYPE = ComponentType.of(PhysicsBody.class);
+
     private Vector2 velocity;
     private float mass;
 
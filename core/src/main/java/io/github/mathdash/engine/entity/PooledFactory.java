@@ -0,0 +1,64 @@
+package io.github.mathdash.engine.entity;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * PooledFactory - Base for factories that recycle entities instead of allocating new ones.
+ *
+ * Entities are obtained from an internal Pool and tagged with it, so
+ * EntityManager hands them back through Entity.release() on removal.
+ * Returned entities keep their components and are reset via Entity.reset();
+ * subclasses re-initialise spawn-time state after obtain().
+ * Entities that overflow the pool's maximum size are disposed.
+ */
+public abstract class PooledFactory<T extends Entity> implements GenericFactory<T> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final int DEFAULT_MAX = 256;
+
+    private final Pool<T> pool;
+
+    protected PooledFactory() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_MAX);
+    }
+
+    protected PooledFactory(int initialCapacity, int max) {
+        this.pool = new Pool<T>(initialCapacity, max) {
+            @Override
+            protected T newObject() {
+                T entity = newEntity();
+                entity.setPool(this);
+                return entity;
+            }
+
+            @Override
+            protected void reset(T entity) {
+                entity.reset();
+            }
+
+            @Override
+            protected void discard(T entity) {
+                entity.setPool(null);
+                entity.dispose();
+            }
+        };
+    }
+
+    // Creates a brand-new entity when the pool is empty.
+    protected abstract T newEntity();
+
+    // Returns a recycled entity, or a new one if none are free.
+    protected T obtain() {
+        return pool.obtain();
+    }
+
+    // Returns the number of entities waiting in the pool.
+    public int getFreeCount() {
+        return pool.getFree();
+    }
+
+    // Drops all pooled entities. Call when the owning scene is unloaded.
+    public void clearPool() {
+        pool.clear();
+    }
+}
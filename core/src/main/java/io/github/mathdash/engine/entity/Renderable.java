@@ -1,19 +1,25 @@
 package io.github.mathdash.engine.entity;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
+import io.github.mathdash.engine.graphics.RenderLayer;
+import io.github.mathdash.engine.graphics.RenderQueue;
+
 /**
  * Renderable - Component that handles drawing an entity's texture on screen.
  */ 
 
 public class Renderable implements Component {
 
+    // Dense ComponentType id used by hot paths instead of the Class lookup.
+    public static final ComponentType<Renderable> TYPE = ComponentType.of(Renderable.class);
+
     private TextureRegion textureRegion;
     private float width;
     private float height;
     private boolean visible;
+    private RenderLayer layer = RenderLayer.WORLD;
 
 
     // Creates a Renderable with the given texture and dimensions.
@@ -46,21 +52,26 @@ public class Renderable implements Component {
     }
 
 
-    // Draws this entity using the given SpriteBatch and Transform.
-    public void render(SpriteBatch batch, Transform transform) {
+    // Queues this entity's sprite on its layer using the given Transform.
+    public void render(RenderQueue queue, Transform transform) {
+        render(queue, transform, 1f);
+    }
+
+    // Queues this entity's sprite at its position interpolated between the last two simulation steps.
+    public void render(RenderQueue queue, Transform transform, float alpha) {
         if (!visible || textureRegion == null || transform == null) {
             return;
         }
 
-        batch.draw(
+        queue.draw(
+            layer,
             textureRegion,
-            transform.getX() - width / 2f,      // center the sprite on position
-            transform.getY() - height / 2f,
+            transform.getInterpolatedX(alpha) - width / 2f,      // center the sprite on position
+            transform.getInterpolatedY(alpha) - height / 2f,
             width / 2f,                         // origin x (for rotation)
             height / 2f,                        // origin y (for rotation)
             width,
             height,
-            1f, 1f,              // scale x, scale y
             transform.getRotation()
         );
     }
@@ -91,6 +102,14 @@ public class Renderable implements Component {
         this.height = height;
     }
 
+    public RenderLayer getLayer() {
+        return layer;
+    }
+
+    public void setLayer(RenderLayer layer) {
+        this.layer = layer;
+    }
+
     public boolean isVisible() {
         return visible;
     }
@@ -4,11 +4,17 @@ import com.badlogic.gdx.math.Vector2;
 
 /**
  * Transform - Component that stores an entity's position and rotation in the world.
+ * Also keeps the position from the start of the current simulation step so
+ * rendering can interpolate between fixed steps.
  */
 
 public class Transform implements Component {
 
+    // Dense ComponentType id used by hot paths instead of the Class lookup.
+    public static final ComponentType<Transform> TYPE = ComponentType.of(Transform.class);
+
     private Vector2 position;
+    private final Vector2 previousPosition;
     private float rotation; // in degrees
 
     // Creates a Transform at the origin with no rotation.
@@ -25,6 +31,7 @@ public class Transform implements Component {
     // Creates a Transform at the given position and rotation.
     public Transform(float x, float y, float rotation) {
         this.position = new Vector2(x, y);
+        this.previousPosition = new Vector2(x, y);
         this.rotation = rotation;
     }
 
@@ -93,4 +100,21 @@ public class Transform implements Component {
     public void rotate(float degrees) {
         this.rotation += degrees;
     }
+
+    // ---- Interpolation ----
+
+    // Records the current position as the start of a simulation step. Called by EntityManager each step.
+    public void savePrevious() {
+        this.previousPosition.set(position);
+    }
+
+    // Returns the x position blended between the previous and current step (alpha in [0, 1]).
+    public float getInterpolatedX(float alpha) {
+        return previousPosition.x + (position.x - previousPosition.x) * alpha;
+    }
+
+    // Returns the y position blended between the previous and current step (alpha in [0, 1]).
+    public float getInterpolatedY(float alpha) {
+        return previousPosition.y + (position.y - previousPosition.y) * alpha;
+    }
 }
\ No newline at end of file
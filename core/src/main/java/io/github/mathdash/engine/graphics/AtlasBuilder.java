@@ -0,0 +1,133 @@
+package io.github.mathdash.engine.graphics;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.XmlReader;
+
+/**
+ * AtlasBuilder - Packs sprites from several sources onto as few texture
+ * pages as possible at load time and returns them as a TextureAtlas.
+ *
+ * Sources:
+ *   - Named SubTextures of XML spritesheets, in the format the Kenney packs
+ *     ship: {@code <TextureAtlas imagePath="..."><SubTexture name x y width height/>}
+ *   - Whole image files, optionally resized while packing
+ *   - Solid-colour swatches (for panels, bars and tinted UI drawables)
+ *
+ * Only the requested regions are copied, so unused parts of a sheet cost no
+ * texture memory. Regions are padded with duplicated borders, so linear
+ * filtering and scaling never bleed neighbouring sprites in.
+ *
+ * Each builder produces one atlas; build() consumes it.
+ */
+public class AtlasBuilder {
+
+    private static final int PADDING = 2;
+    private static final int SWATCH_SIZE = 4;
+
+    private PixmapPacker packer;
+
+    /** @param pageSize width and height of each page; further pages are added only if one overflows */
+    public AtlasBuilder(int pageSize) {
+        this.packer = new PixmapPacker(pageSize, pageSize, Pixmap.Format.RGBA8888, PADDING, true);
+    }
+
+    /**
+     * Copies the named SubTextures of an XML spritesheet. The sheet image is
+     * resolved relative to the XML file and released again after copying.
+     *
+     * @throws GdxRuntimeException if a name is not in the sheet
+     */
+    public AtlasBuilder addSpritesheet(FileHandle xmlFile, String... names) {
+        XmlReader.Element root = new XmlReader().parse(xmlFile);
+        Pixmap sheet = new Pixmap(xmlFile.sibling(root.getAttribute("imagePath")));
+        try {
+            Array<XmlReader.Element> subTextures = root.getChildrenByName("SubTexture");
+            for (String name : names) {
+                XmlReader.Element sub = find(subTextures, name);
+                if (sub == null) {
+                    throw new GdxRuntimeException("No SubTexture '" + name + "' in " + xmlFile.path());
+                }
+                int w = sub.getIntAttribute("width");
+                int h = sub.getIntAttribute("height");
+                Pixmap region = new Pixmap(w, h, Pixmap.Format.RGBA8888);
+                region.setBlending(Pixmap.Blending.None);
+                region.drawPixmap(sheet, sub.getIntAttribute("x"), sub.getIntAttribute("y"), w, h, 0, 0, w, h);
+                pack(name, region);
+            }
+        } finally {
+            sheet.dispose();
+        }
+        return this;
+    }
+
+    /** Packs a whole image file at its own size. */
+    public AtlasBuilder addImage(String name, FileHandle file) {
+        pack(name, new Pixmap(file));
+        return this;
+    }
+
+    /** Packs a whole image file, resampled to width x height (e.g. to shrink oversized art). */
+    public AtlasBuilder addImage(String name, FileHandle file, int width, int height) {
+        Pixmap source = new Pixmap(file);
+        if (source.getWidth() == width && source.getHeight() == height) {
+            pack(name, source);
+            return this;
+        }
+        Pixmap scaled = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        scaled.setBlending(Pixmap.Blending.None);
+        scaled.setFilter(Pixmap.Filter.BiLinear);
+        scaled.drawPixmap(source, 0, 0, source.getWidth(), source.getHeight(), 0, 0, width, height);
+        source.dispose();
+        pack(name, scaled);
+        return this;
+    }
+
+    /** Packs a small swatch of one colour; draw it stretched to any size. */
+    public AtlasBuilder addSolid(String name, float r, float g, float b, float a) {
+        Pixmap swatch = new Pixmap(SWATCH_SIZE, SWATCH_SIZE, Pixmap.Format.RGBA8888);
+        swatch.setBlending(Pixmap.Blending.None);
+        swatch.setColor(r, g, b, a);
+        swatch.fill();
+        pack(name, swatch);
+        return this;
+    }
+
+    /** Uploads the packed pages. The returned atlas owns the textures; dispose it when done. */
+    public TextureAtlas build() {
+        if (packer == null) {
+            throw new IllegalStateException("build() was already called");
+        }
+        TextureAtlas atlas = packer.generateTextureAtlas(
+            Texture.TextureFilter.Linear, Texture.TextureFilter.Linear, false);
+        // Frees only pixmaps not handed to a texture
+        packer.dispose();
+        packer = null;
+        return atlas;
+    }
+
+    private void pack(String name, Pixmap pixmap) {
+        if (packer == null) {
+            throw new IllegalStateException("build() was already called");
+        }
+        try {
+            packer.pack(name, pixmap);
+        } finally {
+            pixmap.dispose();
+        }
+    }
+
+    private static XmlReader.Element find(Array<XmlReader.Element> subTextures, String name) {
+        for (int i = 0; i < subTextures.size; i++) {
+            if (name.equals(subTextures.get(i).getAttribute("name", null))) {
+                return subTextures.get(i);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,475 @@
+package io.github.mathdash.engine.graphics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * DistanceFieldFontAtlas - One signed-distance-field glyph atlas for a
+ * TrueType font, plus the shader that draws it, shared by every font size,
+ * color and outline in the game.
+ *
+ * Each texel stores how far it is from the nearest glyph edge, mapped so
+ * 0.5 is the edge and SPREAD atlas pixels either side reach 0 and 1. The
+ * shader thresholds that value, so glyphs stay sharp when scaled up or
+ * down, and an outline is just a second, lower threshold.
+ *
+ * Glyphs are rasterised by FreeType at UPSCALE times BASE_SIZE, turned
+ * into exact distances with a two-pass 8SSEDT sweep and averaged down to
+ * BASE_SIZE. Building takes a noticeable moment, so given a FontDiskCache
+ * the atlas is written out as a BMFont and loaded from there afterwards.
+ *
+ * Fonts are DistanceFieldFontViews from newView(); they share this atlas's
+ * glyphs and texture and own nothing, so any number are cheap. Text drawn
+ * between beginText() and endText() shares one shader bind, and the batch
+ * is flushed only where consecutive strings need different uniforms.
+ */
+public class DistanceFieldFontAtlas implements Disposable {
+
+    /** Pixel size the atlas glyphs are sampled at; views scale from it. */
+    public static final int BASE_SIZE = 32;
+    /** Atlas pixels of distance stored on each side of a glyph edge. */
+    public static final int SPREAD = 4;
+
+    private static final int UPSCALE = 4;
+    private static final int PAGE_WIDTH = 1024;
+    private static final int PAGE_HEIGHT = 512;
+    private static final String CACHE_KEY = "sdf_" + BASE_SIZE + "_" + SPREAD;
+
+    private static final String VERTEX_SHADER =
+        "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "uniform mat4 u_projTrans;\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "void main() {\n"
+        + "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "    v_color.a = v_color.a * (255.0 / 254.0);\n"
+        + "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "}\n";
+
+    // Fill above 0.5, outline between u_outline and 0.5, both antialiased over u_smoothing
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n"
+        + "precision mediump float;\n"
+        + "#endif\n"
+        + "uniform sampler2D u_texture;\n"
+        + "uniform float u_smoothing;\n"
+        + "uniform float u_outline;\n"
+        + "uniform vec4 u_outlineColor;\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "void main() {\n"
+        + "    float distance = texture2D(u_texture, v_texCoords).a;\n"
+        + "    float fill = smoothstep(0.5 - u_smoothing, 0.5 + u_smoothing, distance);\n"
+        + "    float shape = smoothstep(u_outline - u_smoothing, u_outline + u_smoothing, distance);\n"
+        + "    vec4 outline = vec4(u_outlineColor.rgb, u_outlineColor.a * v_color.a);\n"
+        + "    vec4 color = mix(outline, v_color, fill / max(shape, 0.0001));\n"
+        + "    gl_FragColor = vec4(color.rgb, color.a * shape);\n"
+        + "}\n";
+
+    private final BitmapFont source;
+    private final ShaderProgram shader;
+    private final boolean generated;
+
+    // Shader to put back at endText(); textActive while between beginText() and endText()
+    private ShaderProgram restoreShader;
+    private boolean textActive;
+    // Uniform values last set on the shader; uniformsSet is false until they are known
+    private boolean uniformsSet;
+    private float smoothing;
+    private float outline;
+    private final Color outlineColor = new Color();
+    // Back-buffer pixel width of the viewport text is drawn into; 0 until known
+    private int viewportWidth;
+
+    private DistanceFieldFontAtlas(BitmapFont source, boolean generated) {
+        this.source = source;
+        this.generated = generated;
+        this.shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            source.dispose();
+            throw new IllegalStateException("Distance field shader failed to compile: " + shader.getLog());
+        }
+    }
+
+    /**
+     * Loads the atlas for fontFile from the disk cache, or builds it and
+     * stores it there.
+     *
+     * @param diskCache where the atlas persists between runs, or null to build it every time
+     */
+    public static DistanceFieldFontAtlas create(FileHandle fontFile, FontDiskCache diskCache) {
+        if (diskCache != null) {
+            BitmapFont cached = diskCache.load(CACHE_KEY, Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            if (cached != null) {
+                return new DistanceFieldFontAtlas(cached, false);
+            }
+        }
+
+        PixmapPacker packer = new PixmapPacker(PAGE_WIDTH, PAGE_HEIGHT, Pixmap.Format.RGBA8888, 2, false);
+        packer.setTransparentColor(Color.WHITE);
+        packer.getTransparentColor().a = 0f;
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(fontFile);
+        BitmapFont.BitmapFontData data;
+        try {
+            data = build(generator, packer);
+        } finally {
+            generator.dispose();
+        }
+
+        Array<TextureRegion> regions = new Array<>();
+        packer.updateTextureRegions(regions, Texture.TextureFilter.Linear, Texture.TextureFilter.Linear, false);
+        if (diskCache != null) {
+            diskCache.store(CACHE_KEY, data, packer);
+        }
+        BitmapFont font = new BitmapFont(data, regions, false);
+        // The page pixmaps now belong to the font's textures and are freed with them
+        font.setOwnsTexture(true);
+        return new DistanceFieldFontAtlas(font, true);
+    }
+
+    /** A font over this atlas at the given pixel size, color and outline (borderColor may be null). */
+    public DistanceFieldFontView newView(int size, Color color, Color borderColor, float borderWidth) {
+        return new DistanceFieldFontView(this, size, color, borderColor, borderWidth);
+    }
+
+    /** True if this atlas was rasterised in this run rather than loaded from the disk cache. */
+    public boolean isGenerated() {
+        return generated;
+    }
+
+    public ShaderProgram getShader() {
+        return shader;
+    }
+
+    /**
+     * Binds the distance-field shader on the batch until endText(), so the
+     * strings drawn in between, from any views over this atlas, swap shaders
+     * once rather than twice each. Draw nothing but text from this atlas
+     * until endText(); sprites would go through the distance-field shader.
+     */
+    public void beginText(Batch batch) {
+        if (textActive) {
+            throw new IllegalStateException("endText() must be called before beginText()");
+        }
+        restoreShader = batch.getShader();
+        batch.setShader(shader);
+        // A shader reloaded after a context loss has lost its uniforms
+        uniformsSet = false;
+        textActive = true;
+    }
+
+    /** Restores the shader the batch had at beginText(). */
+    public void endText(Batch batch) {
+        if (!textActive) {
+            throw new IllegalStateException("beginText() must be called before endText()");
+        }
+        batch.setShader(restoreShader);
+        restoreShader = null;
+        textActive = false;
+    }
+
+    /**
+     * Sets the width in back-buffer pixels of the GL viewport text is drawn
+     * into, which under a letterboxing viewport is less than the back
+     * buffer's. Until set, the whole back buffer is assumed.
+     */
+    public void setViewportWidth(int pixels) {
+        viewportWidth = pixels;
+    }
+
+    int getViewportWidth() {
+        return viewportWidth > 0 ? viewportWidth : Gdx.graphics.getBackBufferWidth();
+    }
+
+    /** True if the batch is drawing with this atlas's shader, as between beginText() and endText(). */
+    boolean isBound(Batch batch) {
+        return batch.getShader() == shader;
+    }
+
+    // Sets the uniforms for the next glyphs. Glyphs already batched were drawn with the old
+    // values, so they are flushed first, but only when a value actually changes.
+    void setUniforms(Batch batch, float smoothing, float outline, Color outlineColor) {
+        if (uniformsSet && smoothing == this.smoothing && outline == this.outline
+            && outlineColor.equals(this.outlineColor)) {
+            return;
+        }
+        batch.flush();
+        shader.setUniformf("u_smoothing", smoothing);
+        shader.setUniformf("u_outline", outline);
+        shader.setUniformf("u_outlineColor", outlineColor);
+        this.smoothing = smoothing;
+        this.outline = outline;
+        this.outlineColor.set(outlineColor);
+        uniformsSet = true;
+    }
+
+    // Forgets the uniform values, e.g. after the batch switched to the shader without beginText()
+    void invalidateUniforms() {
+        uniformsSet = false;
+    }
+
+    Array<TextureRegion> getRegions() {
+        return source.getRegions();
+    }
+
+    // Fresh metrics at BASE_SIZE sharing the atlas glyphs, so each view can scale its own copy
+    BitmapFont.BitmapFontData newViewData() {
+        BitmapFont.BitmapFontData from = source.getData();
+        BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData();
+        data.imagePaths = from.imagePaths;
+        data.fontFile = from.fontFile;
+        data.flipped = from.flipped;
+        data.padTop = from.padTop;
+        data.padRight = from.padRight;
+        data.padBottom = from.padBottom;
+        data.padLeft = from.padLeft;
+        data.lineHeight = from.lineHeight;
+        data.capHeight = from.capHeight;
+        data.ascent = from.ascent;
+        data.descent = from.descent;
+        data.down = from.down;
+        data.blankLineScale = from.blankLineScale;
+        data.markupEnabled = from.markupEnabled;
+        data.cursorX = from.cursorX;
+        data.spaceXadvance = from.spaceXadvance;
+        data.xHeight = from.xHeight;
+        data.breakChars = from.breakChars;
+        data.xChars = from.xChars;
+        data.capChars = from.capChars;
+        data.missingGlyph = from.missingGlyph;
+        System.arraycopy(from.glyphs, 0, data.glyphs, 0, from.glyphs.length);
+        return data;
+    }
+
+    @Override
+    public void dispose() {
+        source.dispose();
+        shader.dispose();
+    }
+
+    // ---- Building ----
+
+    private static BitmapFont.BitmapFontData build(FreeTypeFontGenerator generator, PixmapPacker packer) {
+        FreeTypeFontGenerator.FreeTypeFontParameter param = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        param.size = BASE_SIZE * UPSCALE;
+        param.color = Color.WHITE;
+        PixmapPacker hiResPacker = new PixmapPacker(1024, 1024, Pixmap.Format.RGBA8888, 1, false);
+        param.packer = hiResPacker;
+        try {
+            BitmapFont.BitmapFontData hiRes = generator.generateData(param);
+
+            BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData();
+            data.lineHeight = hiRes.lineHeight / UPSCALE;
+            data.capHeight = hiRes.capHeight / UPSCALE;
+            data.ascent = hiRes.ascent / UPSCALE;
+            data.descent = hiRes.descent / UPSCALE;
+            data.down = hiRes.down / UPSCALE;
+            data.xHeight = hiRes.xHeight / UPSCALE;
+            data.spaceXadvance = hiRes.spaceXadvance / UPSCALE;
+            // Layout trims the field margin around each glyph as BMFont padding
+            data.padTop = SPREAD;
+            data.padRight = SPREAD;
+            data.padBottom = SPREAD;
+            data.padLeft = SPREAD;
+
+            Array<BitmapFont.Glyph> hiGlyphs = new Array<>();
+            for (BitmapFont.Glyph[] page : hiRes.glyphs) {
+                if (page == null) {
+                    continue;
+                }
+                for (BitmapFont.Glyph glyph : page) {
+                    if (glyph != null && glyph.id > 0) {
+                        hiGlyphs.add(glyph);
+                    }
+                }
+            }
+
+            DistanceField field = new DistanceField();
+            for (int i = 0; i < hiGlyphs.size; i++) {
+                BitmapFont.Glyph hi = hiGlyphs.get(i);
+                data.setGlyph(hi.id, field.convert(hi, hiResPacker, packer));
+            }
+            if (hiRes.missingGlyph != null) {
+                data.missingGlyph = field.convert(hiRes.missingGlyph, hiResPacker, packer);
+            }
+
+            for (int i = 0; i < hiGlyphs.size; i++) {
+                BitmapFont.Glyph first = data.getGlyph((char) hiGlyphs.get(i).id);
+                for (int j = 0; j < hiGlyphs.size; j++) {
+                    int second = hiGlyphs.get(j).id;
+                    int amount = Math.round(hiGlyphs.get(i).getKerning((char) second) / (float) UPSCALE);
+                    if (amount != 0) {
+                        first.setKerning(second, amount);
+                    }
+                }
+            }
+            return data;
+        } finally {
+            // Only the high resolution pages, which never became textures
+            hiResPacker.dispose();
+        }
+    }
+
+    /**
+     * Turns high resolution glyph coverage into a BASE_SIZE distance field.
+     * Scratch buffers are kept and grown across glyphs.
+     */
+    private static final class DistanceField {
+
+        private static final int FAR = 9999;
+        private static final int MARGIN = SPREAD * UPSCALE;
+
+        private boolean[] inside = new boolean[0];
+        private int[] dx = new int[0];
+        private int[] dy = new int[0];
+        private float[] toInside = new float[0];
+        private float[] toOutside = new float[0];
+
+        BitmapFont.Glyph convert(BitmapFont.Glyph hi, PixmapPacker hiResPacker, PixmapPacker packer) {
+            BitmapFont.Glyph glyph = new BitmapFont.Glyph();
+            glyph.id = hi.id;
+            glyph.xadvance = Math.round(hi.xadvance / (float) UPSCALE);
+            if (hi.width == 0 || hi.height == 0) {
+                glyph.xoffset = Math.round(hi.xoffset / (float) UPSCALE);
+                glyph.yoffset = Math.round(hi.yoffset / (float) UPSCALE);
+                return glyph;
+            }
+
+            // Pad by the spread and snap the padded box to whole atlas pixels
+            int left = Math.floorDiv(hi.xoffset - MARGIN, UPSCALE) * UPSCALE;
+            int bottom = Math.floorDiv(hi.yoffset - MARGIN, UPSCALE) * UPSCALE;
+            int padLeft = hi.xoffset - left;
+            int padBottom = hi.yoffset - bottom;
+            int width = roundUp(padLeft + hi.width + MARGIN);
+            int height = roundUp(padBottom + hi.height + MARGIN);
+            int padTop = height - padBottom - hi.height;
+
+            int cells = width * height;
+            ensureCapacity(cells);
+            Pixmap coverage = hiResPacker.getPages().get(hi.page).getPixmap();
+            for (int i = 0; i < cells; i++) {
+                inside[i] = false;
+            }
+            for (int y = 0; y < hi.height; y++) {
+                for (int x = 0; x < hi.width; x++) {
+                    int alpha = coverage.getPixel(hi.srcX + x, hi.srcY + y) & 0xFF;
+                    inside[(padTop + y) * width + padLeft + x] = alpha >= 128;
+                }
+            }
+            sweep(true, width, height, toInside);
+            sweep(false, width, height, toOutside);
+
+            int fieldWidth = width / UPSCALE;
+            int fieldHeight = height / UPSCALE;
+            Pixmap out = new Pixmap(fieldWidth, fieldHeight, Pixmap.Format.RGBA8888);
+            float samples = UPSCALE * UPSCALE;
+            for (int fy = 0; fy < fieldHeight; fy++) {
+                for (int fx = 0; fx < fieldWidth; fx++) {
+                    float sum = 0f;
+                    for (int sy = 0; sy < UPSCALE; sy++) {
+                        int row = (fy * UPSCALE + sy) * width + fx * UPSCALE;
+                        for (int sx = 0; sx < UPSCALE; sx++) {
+                            sum += toInside[row + sx] - toOutside[row + sx];
+                        }
+                    }
+                    float value = 0.5f - (sum / samples) / (2f * MARGIN);
+                    int alpha = Math.round(Math.max(0f, Math.min(1f, value)) * 255f);
+                    out.drawPixel(fx, fy, 0xFFFFFF00 | alpha);
+                }
+            }
+
+            String name = Integer.toString(hi.id);
+            Rectangle rect = packer.pack(name, out);
+            out.dispose();
+            glyph.page = packer.getPageIndex(name);
+            glyph.srcX = (int) rect.x;
+            glyph.srcY = (int) rect.y;
+            glyph.width = fieldWidth;
+            glyph.height = fieldHeight;
+            glyph.xoffset = left / UPSCALE;
+            glyph.yoffset = bottom / UPSCALE;
+            return glyph;
+        }
+
+        // 8SSEDT: distance from each cell to the nearest cell whose inside flag equals target
+        private void sweep(boolean target, int width, int height, float[] distances) {
+            int cells = width * height;
+            for (int i = 0; i < cells; i++) {
+                int far = inside[i] == target ? 0 : FAR;
+                dx[i] = far;
+                dy[i] = far;
+            }
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    compare(x, y, -1, 0, width, height);
+                    compare(x, y, 0, -1, width, height);
+                    compare(x, y, -1, -1, width, height);
+                    compare(x, y, 1, -1, width, height);
+                }
+                for (int x = width - 1; x >= 0; x--) {
+                    compare(x, y, 1, 0, width, height);
+                }
+            }
+            for (int y = height - 1; y >= 0; y--) {
+                for (int x = width - 1; x >= 0; x--) {
+                    compare(x, y, 1, 0, width, height);
+                    compare(x, y, 0, 1, width, height);
+                    compare(x, y, -1, 1, width, height);
+                    compare(x, y, 1, 1, width, height);
+                }
+                for (int x = 0; x < width; x++) {
+                    compare(x, y, -1, 0, width, height);
+                }
+            }
+            for (int i = 0; i < cells; i++) {
+                distances[i] = (float) Math.sqrt((double) dx[i] * dx[i] + (double) dy[i] * dy[i]);
+            }
+        }
+
+        // Takes the neighbour's nearest point if it is closer than the cell's own
+        private void compare(int x, int y, int offsetX, int offsetY, int width, int height) {
+            int nx = x + offsetX;
+            int ny = y + offsetY;
+            if (nx < 0 || ny < 0 || nx >= width || ny >= height) {
+                return;
+            }
+            int i = y * width + x;
+            int j = ny * width + nx;
+            int cx = dx[j] + offsetX;
+            int cy = dy[j] + offsetY;
+            if (cx * cx + cy * cy < dx[i] * dx[i] + dy[i] * dy[i]) {
+                dx[i] = cx;
+                dy[i] = cy;
+            }
+        }
+
+        private void ensureCapacity(int cells) {
+            if (inside.length < cells) {
+                inside = new boolean[cells];
+                dx = new int[cells];
+                dy = new int[cells];
+                toInside = new float[cells];
+                toOutside = new float[cells];
+            }
+        }
+
+        private static int roundUp(int pixels) {
+            return (pixels + UPSCALE - 1) / UPSCALE * UPSCALE;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.mathdash.engine.graphics;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+
+/**
+ * DistanceFieldFontView - A BitmapFont at one size, color and outline that
+ * draws from a shared DistanceFieldFontAtlas.
+ *
+ * The view scales its own copy of the atlas metrics and shares the glyphs
+ * and texture, so it owns no GPU resources. Every text draw, including
+ * scene2d Labels through newFontCache(), sets this view's outline and an
+ * edge smoothing worked out from the current projection on the atlas
+ * shader. Text therefore stays crisp at any viewport scale without a
+ * texture per size. Between the atlas's beginText() and endText() the
+ * shader is already bound; a draw outside them switches the batch to it
+ * and back, which flushes twice.
+ */
+public class DistanceFieldFontView extends BitmapFont {
+
+    private final DistanceFieldFontAtlas atlas;
+    private final Color outlineColor = new Color(0f, 0f, 0f, 0f);
+    // Outline width as a fraction of the stored distance range, independent of later scaling
+    private final float outlineField;
+
+    DistanceFieldFontView(DistanceFieldFontAtlas atlas, int size, Color color, Color borderColor, float borderWidth) {
+        super(atlas.newViewData(), atlas.getRegions(), false);
+        this.atlas = atlas;
+        float scale = size / (float) DistanceFieldFontAtlas.BASE_SIZE;
+        getData().setScale(scale);
+        setColor(color);
+        if (borderColor != null && borderWidth > 0f) {
+            outlineColor.set(borderColor);
+            outlineField = Math.min(0.5f, borderWidth / scale / (2f * DistanceFieldFontAtlas.SPREAD));
+        } else {
+            outlineField = 0f;
+        }
+    }
+
+    @Override
+    public BitmapFontCache newFontCache() {
+        return new ViewCache();
+    }
+
+    // Sets this view's uniforms on the atlas shader
+    private void applyUniforms(Batch batch) {
+        // Screen pixels per atlas pixel, from the projection's horizontal scale over the viewport
+        float pixelsPerUnit = batch.getProjectionMatrix().val[Matrix4.M00] * atlas.getViewportWidth() / 2f;
+        float pixelsPerTexel = Math.max(0.01f, getData().scaleX * pixelsPerUnit);
+        // Half a screen pixel of the stored range either side of each edge
+        float smoothing = Math.min(0.25f, 0.25f / (DistanceFieldFontAtlas.SPREAD * pixelsPerTexel));
+        atlas.setUniforms(batch, smoothing, 0.5f - outlineField, outlineColor);
+    }
+
+    private class ViewCache extends BitmapFontCache {
+
+        // Shader to restore after a draw that had to switch to the atlas shader itself
+        private ShaderProgram previous;
+        private boolean switched;
+
+        ViewCache() {
+            super(DistanceFieldFontView.this, false);
+        }
+
+        @Override
+        public void draw(Batch batch) {
+            begin(batch);
+            super.draw(batch);
+            end(batch);
+        }
+
+        @Override
+        public void draw(Batch batch, int start, int end) {
+            begin(batch);
+            super.draw(batch, start, end);
+            end(batch);
+        }
+
+        private void begin(Batch batch) {
+            switched = !atlas.isBound(batch);
+            if (switched) {
+                previous = batch.getShader();
+                batch.setShader(atlas.getShader());
+                atlas.invalidateUniforms();
+            }
+            applyUniforms(batch);
+        }
+
+        private void end(Batch batch) {
+            if (switched) {
+                batch.setShader(previous);
+                previous = null;
+                switched = false;
+            }
+        }
+    }
+}
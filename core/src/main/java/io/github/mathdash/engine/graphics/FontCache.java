@@ -0,0 +1,175 @@
+package io.github.mathdash.engine.graphics;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * FontCache - Application-wide, reference-counted BitmapFonts drawn from
+ * one distance-field atlas of a TrueType file.
+ *
+ * Fonts are keyed by (size, color, border color, border width). Every
+ * acquire() of a key returns the same BitmapFont and adds a reference;
+ * release() drops one. Each font is a DistanceFieldFontView over the one
+ * DistanceFieldFontAtlas, created on the first acquire, so every size and
+ * outline shares a single texture.
+ *
+ * A font whose last reference is released becomes idle rather than being
+ * disposed at once, so a scene that is torn down and rebuilt with the same
+ * fonts (a level restart) gets the same objects back. trim() disposes the
+ * idle fonts; call it at points where nothing is about to come back, such
+ * as returning to the main menu. The atlas lives until dispose().
+ *
+ * Given a cache directory, the atlas is loaded from a FontDiskCache, so
+ * after the first run the TTF is not even parsed unless it changes.
+ */
+public class FontCache implements Disposable {
+
+    private final FileHandle fontFile;
+    private final FontDiskCache diskCache;
+    private DistanceFieldFontAtlas atlas;
+    private int viewportWidth;
+
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+    private final IdentityMap<BitmapFont, Entry> entriesByFont = new IdentityMap<>();
+
+    public FontCache(FileHandle fontFile) {
+        this(fontFile, null);
+    }
+
+    /** @param cacheDirectory where the atlas persists between runs, or null to keep them in memory only */
+    public FontCache(FileHandle fontFile, FileHandle cacheDirectory) {
+        this.fontFile = fontFile;
+        this.diskCache = cacheDirectory != null ? new FontDiskCache(fontFile, cacheDirectory) : null;
+    }
+
+    /** Returns the shared font for (size, color) without a border. Release it when done. */
+    public BitmapFont acquire(int size, Color color) {
+        return acquire(size, color, null, 0f);
+    }
+
+    /** Returns the shared font for the parameters, creating it on first use. Release it when done. */
+    public BitmapFont acquire(int size, Color color, Color borderColor, float borderWidth) {
+        String key = key(size, color, borderColor, borderWidth);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry(key, atlas().newView(size, color, borderColor, borderWidth));
+            entries.put(key, entry);
+            entriesByFont.put(entry.font, entry);
+        }
+        entry.references++;
+        return entry.font;
+    }
+
+    /**
+     * Drops one reference to a font from acquire(). At zero references the
+     * font stays cached, idle, until the next trim().
+     *
+     * @throws IllegalArgumentException if the font did not come from this cache
+     */
+    public void release(BitmapFont font) {
+        Entry entry = entriesByFont.get(font);
+        if (entry == null || entry.references == 0) {
+            throw new IllegalArgumentException("Font is not held from this cache");
+        }
+        entry.references--;
+    }
+
+    /** Disposes every font nobody holds. Returns how many were disposed. */
+    public int trim() {
+        Array<Entry> idle = new Array<>();
+        for (Entry entry : entries.values()) {
+            if (entry.references == 0) {
+                idle.add(entry);
+            }
+        }
+        for (int i = 0; i < idle.size; i++) {
+            Entry entry = idle.get(i);
+            entries.remove(entry.key);
+            entriesByFont.remove(entry.font);
+            entry.font.dispose();
+        }
+        return idle.size;
+    }
+
+    /**
+     * Binds the text shader on the batch until endText(), so every string
+     * drawn in between with this cache's fonts shares one shader bind.
+     * Draw only text until endText().
+     */
+    public void beginText(Batch batch) {
+        atlas().beginText(batch);
+    }
+
+    /** Restores the batch's shader from before beginText(). */
+    public void endText(Batch batch) {
+        atlas().endText(batch);
+    }
+
+    /**
+     * Tells the fonts the size of the viewport text is drawn into, so their
+     * edge smoothing matches real screen pixels when the viewport letterboxes.
+     * Call after each viewport.update().
+     */
+    public void setViewport(Viewport viewport) {
+        viewportWidth = HdpiUtils.toBackBufferX(viewport.getScreenWidth());
+        if (atlas != null) {
+            atlas.setViewportWidth(viewportWidth);
+        }
+    }
+
+    /** Number of distinct fonts currently cached, held or idle. */
+    public int size() {
+        return entries.size;
+    }
+
+    @Override
+    public void dispose() {
+        for (Entry entry : entries.values()) {
+            entry.font.dispose();
+        }
+        entries.clear();
+        entriesByFont.clear();
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+    }
+
+    // ---- Internal ----
+
+    private DistanceFieldFontAtlas atlas() {
+        if (atlas == null) {
+            atlas = DistanceFieldFontAtlas.create(fontFile, diskCache);
+            atlas.setViewportWidth(viewportWidth);
+        }
+        return atlas;
+    }
+
+    private static String key(int size, Color color, Color borderColor, float borderWidth) {
+        StringBuilder key = new StringBuilder(32);
+        key.append(size).append('/').append(color);
+        if (borderColor != null && borderWidth > 0f) {
+            key.append('/').append(borderColor).append('/').append(borderWidth);
+        }
+        return key.toString();
+    }
+
+    private static class Entry {
+        final String key;
+        final BitmapFont font;
+        int references;
+
+        Entry(String key, BitmapFont font) {
+            this.key = key;
+            this.font = font;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.mathdash.engine.graphics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * FontDiskCache - Keeps generated fonts on disk as BMFont text files plus
+ * PNG glyph pages, so later runs load them instead of building them again.
+ *
+ * Files are named by a fingerprint of the TrueType file followed by the
+ * caller's key for the font's parameters. The fingerprint is a hash of the
+ * font's bytes and of this cache's format version, so replacing the font
+ * file (or changing how fonts are written) misses every old entry; those
+ * are deleted the first time the cache is used.
+ *
+ * Glyph pages are written before the .fnt file, and the .fnt file is moved
+ * into place only once complete, so a run killed mid-write leaves an entry
+ * that is simply missed. Entries that fail to load are deleted and
+ * built again; failures to write are logged and otherwise ignored.
+ */
+public class FontDiskCache {
+
+    private static final String TAG = "FontDiskCache";
+    // Bump when the written format or the way fonts are generated changes
+    private static final int FORMAT_VERSION = 2;
+
+    private final FileHandle fontFile;
+    private final FileHandle directory;
+    private String fingerprint;
+
+    /**
+     * @param fontFile  the TrueType file fonts are generated from
+     * @param directory a writable directory owned by this cache; created on first store
+     */
+    public FontDiskCache(FileHandle fontFile, FileHandle directory) {
+        this.fontFile = fontFile;
+        this.directory = directory;
+    }
+
+    /**
+     * Loads the font stored under key, or returns null if there is none.
+     *
+     * @param key a file-name-safe key identifying how the font was generated
+     */
+    public BitmapFont load(String key, Texture.TextureFilter minFilter, Texture.TextureFilter magFilter) {
+        FileHandle fnt = directory.child(stem(key) + ".fnt");
+        if (!fnt.exists()) {
+            return null;
+        }
+        try {
+            BitmapFont font = new BitmapFont(fnt);
+            for (TextureRegion region : font.getRegions()) {
+                region.getTexture().setFilter(minFilter, magFilter);
+            }
+            return font;
+        } catch (RuntimeException e) {
+            Gdx.app.error(TAG, "Discarding unreadable cached font " + fnt.name(), e);
+            delete(key);
+            return null;
+        }
+    }
+
+    /**
+     * Writes a font's metrics and glyph pages under key. The packer's pages
+     * must still hold their pixmaps. Failures are logged and leave no entry.
+     */
+    public void store(String key, BitmapFont.BitmapFontData data, PixmapPacker packer) {
+        try {
+            write(key, data, packer);
+        } catch (RuntimeException e) {
+            Gdx.app.error(TAG, "Failed to cache font " + key, e);
+            delete(key);
+        }
+    }
+
+    // ---- Internal ----
+
+    private String stem(String key) {
+        return fingerprint() + "_" + key;
+    }
+
+    // Hashes the font file once, and clears out entries written for any other font or format
+    private String fingerprint() {
+        if (fingerprint == null) {
+            fingerprint = hash(fontFile.readBytes());
+            if (directory.isDirectory()) {
+                for (FileHandle file : directory.list()) {
+                    if (!file.name().startsWith(fingerprint + "_")) {
+                        file.delete();
+                    }
+                }
+            }
+        }
+        return fingerprint;
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(bytes);
+            digest.update((byte) FORMAT_VERSION);
+            byte[] sum = digest.digest();
+            StringBuilder hex = new StringBuilder(16);
+            for (int i = 0; i < 8; i++) {
+                hex.append(Character.forDigit((sum[i] >> 4) & 0xF, 16))
+                    .append(Character.forDigit(sum[i] & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    }
+
+    private void write(String key, BitmapFont.BitmapFontData data, PixmapPacker packer) {
+        directory.mkdirs();
+        String stem = stem(key);
+
+        Array<PixmapPacker.Page> pages = packer.getPages();
+        StringBuilder fnt = new StringBuilder(8192);
+        fnt.append("info face=\"").append(fontFile.nameWithoutExtension())
+            .append("\" size=0 bold=0 italic=0 charset=\"\" unicode=1 stretchH=100 smooth=1 aa=1 padding=")
+            .append((int) data.padTop).append(',').append((int) data.padRight).append(',')
+            .append((int) data.padBottom).append(',').append((int) data.padLeft)
+            .append(" spacing=1,1\n");
+        fnt.append("common lineHeight=").append(Math.round(data.lineHeight))
+            .append(" base=").append(Math.round(data.ascent + data.capHeight))
+            .append(" scaleW=").append(packer.getPageWidth())
+            .append(" scaleH=").append(packer.getPageHeight())
+            .append(" pages=").append(pages.size).append(" packed=0\n");
+        for (int i = 0; i < pages.size; i++) {
+            String pageName = stem + "." + i + ".png";
+            PixmapIO.writePNG(directory.child(pageName), pages.get(i).getPixmap());
+            fnt.append("page id=").append(i).append(" file=\"").append(pageName).append("\"\n");
+        }
+
+        Array<BitmapFont.Glyph> glyphs = new Array<>();
+        for (BitmapFont.Glyph[] page : data.glyphs) {
+            if (page == null) {
+                continue;
+            }
+            for (BitmapFont.Glyph glyph : page) {
+                if (glyph != null && glyph.id > 0) {
+                    glyphs.add(glyph);
+                }
+            }
+        }
+        fnt.append("chars count=").append(glyphs.size + (data.missingGlyph != null ? 1 : 0)).append('\n');
+        if (data.missingGlyph != null) {
+            appendGlyph(fnt, 0, data.missingGlyph);
+        }
+        for (int i = 0; i < glyphs.size; i++) {
+            appendGlyph(fnt, glyphs.get(i).id, glyphs.get(i));
+        }
+
+        StringBuilder kernings = new StringBuilder(4096);
+        int kerningCount = 0;
+        for (int i = 0; i < glyphs.size; i++) {
+            BitmapFont.Glyph first = glyphs.get(i);
+            for (int j = 0; j < glyphs.size; j++) {
+                int amount = first.getKerning((char) glyphs.get(j).id);
+                if (amount != 0) {
+                    kernings.append("kerning first=").append(first.id)
+                        .append(" second=").append(glyphs.get(j).id)
+                        .append(" amount=").append(amount).append('\n');
+                    kerningCount++;
+                }
+            }
+        }
+        fnt.append("kernings count=").append(kerningCount).append('\n').append(kernings);
+
+        // Exact metrics; the BMFont fields above only hold rounded ones
+        fnt.append("metrics ascent=").append(data.ascent)
+            .append(" descent=").append(data.descent)
+            .append(" down=").append(data.down)
+            .append(" capHeight=").append(data.capHeight)
+            .append(" lineHeight=").append(data.lineHeight)
+            .append(" spaceXAdvance=").append(data.spaceXadvance)
+            .append(" xHeight=").append(data.xHeight).append('\n');
+
+        FileHandle partial = directory.child(stem + ".fnt.tmp");
+        partial.writeString(fnt.toString(), false, "UTF-8");
+        partial.moveTo(directory.child(stem + ".fnt"));
+    }
+
+    // BMFont y offsets are measured down from the line top; BitmapFont's up from the baseline
+    private static void appendGlyph(StringBuilder fnt, int id, BitmapFont.Glyph glyph) {
+        fnt.append("char id=").append(id)
+            .append(" x=").append(glyph.srcX)
+            .append(" y=").append(glyph.srcY)
+            .append(" width=").append(glyph.width)
+            .append(" height=").append(glyph.height)
+            .append(" xoffset=").append(glyph.xoffset)
+            .append(" yoffset=").append(-(glyph.height + glyph.yoffset))
+            .append(" xadvance=").append(glyph.xadvance)
+            .append(" page=").append(glyph.page)
+            .append(" chnl=0\n");
+    }
+
+    private void delete(String key) {
+        String stem = stem(key);
+        if (!directory.isDirectory()) {
+            return;
+        }
+        for (FileHandle file : directory.list()) {
+            if (file.name().startsWith(stem + ".")) {
+                file.delete();
+            }
+        }
+    }
+}
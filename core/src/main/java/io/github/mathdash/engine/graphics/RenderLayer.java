@@ -0,0 +1,12 @@
+package io.github.mathdash.engine.graphics;
+
+/**
+ * RenderLayer - Draw order buckets for RenderQueue, back to front.
+ * Every sprite in a layer is drawn before any sprite of a later layer.
+ */
+public enum RenderLayer {
+    BACKGROUND,
+    WORLD,
+    HUD,
+    OVERLAY
+}
@@ -0,0 +1,259 @@
+package io.github.mathdash.engine.graphics;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * RenderQueue - Collects a frame's sprite draws and submits them to a
+ * SpriteBatch grouped by layer, then by texture.
+ *
+ * Each draw is tagged with its RenderLayer and a small integer key for its
+ * texture. flush() orders the draws with a stable counting sort on
+ * (layer, texture key), so every texture is bound at most once per layer
+ * and sprites sharing a texture keep their submission order. Draws of
+ * different textures within one layer may be reordered; sprites that must
+ * stack on top of each other belong in different layers.
+ *
+ * With a view set, draws whose bounds lie entirely outside the camera's
+ * visible rectangle are dropped on submission and only counted, so
+ * off-screen spawns and leftovers never reach the batch.
+ *
+ * Commands live in parallel arrays that are reused every frame and only
+ * grow when a frame submits more sprites than ever before, so steady-state
+ * queuing and sorting allocate nothing.
+ */
+public class RenderQueue {
+
+    private static final int LAYER_COUNT = RenderLayer.values().length;
+
+    // Submitted draw commands, one index per sprite
+    private TextureRegion[] regions;
+    private int[] keys;
+    private float[] xs, ys, originXs, originYs, widths, heights, rotations;
+    private int size;
+
+    // Command indices in submission order after sorting
+    private int[] order;
+    // Per-(layer, texture) counts and then start offsets for the counting sort
+    private int[] buckets;
+
+    private final ObjectIntMap<Texture> textureKeys = new ObjectIntMap<>();
+    private int textureSwitches;
+
+    // Visible world rectangle; draws outside it are culled while culling is on
+    private boolean culling;
+    private float viewLeft, viewBottom, viewRight, viewTop;
+    private int culled;
+    private int lastDrawn, lastCulled;
+
+    public RenderQueue() {
+        this(256);
+    }
+
+    /** @param capacity number of sprites per frame before the arrays have to grow */
+    public RenderQueue(int capacity) {
+        allocate(Math.max(16, capacity));
+        buckets = new int[LAYER_COUNT * 8];
+    }
+
+    /**
+     * Culls later draws against what the camera currently shows. Call after
+     * the camera is updated each frame; assumes the camera is not rotated.
+     */
+    public void setView(OrthographicCamera camera) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+        viewLeft = camera.position.x - halfWidth;
+        viewRight = camera.position.x + halfWidth;
+        viewBottom = camera.position.y - halfHeight;
+        viewTop = camera.position.y + halfHeight;
+        culling = true;
+    }
+
+    /** Turns culling off; every later draw is queued. */
+    public void clearView() {
+        culling = false;
+    }
+
+    /** Queues an unrotated sprite. */
+    public void draw(RenderLayer layer, TextureRegion region, float x, float y, float width, float height) {
+        draw(layer, region, x, y, 0f, 0f, width, height, 0f);
+    }
+
+    /** Queues a sprite rotated by degrees around (originX, originY), relative to its bottom-left corner. */
+    public void draw(RenderLayer layer, TextureRegion region, float x, float y,
+                     float originX, float originY, float width, float height, float rotation) {
+        if (region == null) {
+            return;
+        }
+        if (culling && isOutsideView(x, y, originX, originY, width, height, rotation)) {
+            culled++;
+            return;
+        }
+        if (size == regions.length) {
+            allocate(size * 2);
+        }
+        // May widen the key space, so look it up before reading the capacity
+        int textureKey = textureKey(region.getTexture());
+        int i = size++;
+        regions[i] = region;
+        keys[i] = layer.ordinal() * textureCapacity() + textureKey;
+        xs[i] = x;
+        ys[i] = y;
+        originXs[i] = originX;
+        originYs[i] = originY;
+        widths[i] = width;
+        heights[i] = height;
+        rotations[i] = rotation;
+    }
+
+    /**
+     * Sorts the queued draws and submits them to the batch, which must be
+     * between begin() and end(). The queue is empty afterwards.
+     */
+    public void flush(SpriteBatch batch) {
+        sort();
+        textureSwitches = 0;
+        Texture bound = null;
+        for (int n = 0; n < size; n++) {
+            int i = order[n];
+            TextureRegion region = regions[i];
+            if (region.getTexture() != bound) {
+                bound = region.getTexture();
+                textureSwitches++;
+            }
+            batch.draw(region, xs[i], ys[i], originXs[i], originYs[i],
+                widths[i], heights[i], 1f, 1f, rotations[i]);
+        }
+        lastDrawn = size;
+        lastCulled = culled;
+        clear();
+    }
+
+    /** Drops all queued draws without submitting them. */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            regions[i] = null;
+        }
+        size = 0;
+        culled = 0;
+    }
+
+    /** Number of draws currently queued. */
+    public int size() {
+        return size;
+    }
+
+    /** Texture changes in the last flush; the batch flushes at most this many times for it. */
+    public int getTextureSwitches() {
+        return textureSwitches;
+    }
+
+    /** Sprites submitted to the batch by the last flush. */
+    public int getDrawnCount() {
+        return lastDrawn;
+    }
+
+    /** Sprites dropped as off-screen while the last flushed frame was queued. */
+    public int getCulledCount() {
+        return lastCulled;
+    }
+
+    // ---- Internal ----
+
+    private boolean isOutsideView(float x, float y, float originX, float originY,
+                                  float width, float height, float rotation) {
+        float left = x, bottom = y, right = x + width, top = y + height;
+        if (rotation != 0f) {
+            // Any rotation stays within the circle through the corner farthest from the origin
+            float reachX = Math.max(Math.abs(originX), Math.abs(width - originX));
+            float reachY = Math.max(Math.abs(originY), Math.abs(height - originY));
+            float radius = (float) Math.sqrt(reachX * reachX + reachY * reachY);
+            left = x + originX - radius;
+            right = x + originX + radius;
+            bottom = y + originY - radius;
+            top = y + originY + radius;
+        }
+        return right < viewLeft || left > viewRight || top < viewBottom || bottom > viewTop;
+    }
+
+    // Stable counting sort of command indices by key into order[]
+    private void sort() {
+        int bucketCount = LAYER_COUNT * textureCapacity();
+        for (int b = 0; b < bucketCount; b++) {
+            buckets[b] = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            buckets[keys[i]]++;
+        }
+        int start = 0;
+        for (int b = 0; b < bucketCount; b++) {
+            int count = buckets[b];
+            buckets[b] = start;
+            start += count;
+        }
+        for (int i = 0; i < size; i++) {
+            order[buckets[keys[i]]++] = i;
+        }
+    }
+
+    private int textureCapacity() {
+        return buckets.length / LAYER_COUNT;
+    }
+
+    // Assigns textures dense keys in first-seen order; the key space doubles when full
+    private int textureKey(Texture texture) {
+        int key = textureKeys.get(texture, -1);
+        if (key >= 0) {
+            return key;
+        }
+        key = textureKeys.size;
+        textureKeys.put(texture, key);
+        int capacity = textureCapacity();
+        if (key >= capacity) {
+            // Keys already queued this frame encode the old capacity
+            for (int i = 0; i < size; i++) {
+                keys[i] = (keys[i] / capacity) * capacity * 2 + keys[i] % capacity;
+            }
+            buckets = new int[LAYER_COUNT * capacity * 2];
+        }
+        return key;
+    }
+
+    private void allocate(int capacity) {
+        regions = copy(regions, new TextureRegion[capacity]);
+        keys = copy(keys, new int[capacity]);
+        order = new int[capacity];
+        xs = copy(xs, new float[capacity]);
+        ys = copy(ys, new float[capacity]);
+        originXs = copy(originXs, new float[capacity]);
+        originYs = copy(originYs, new float[capacity]);
+        widths = copy(widths, new float[capacity]);
+        heights = copy(heights, new float[capacity]);
+        rotations = copy(rotations, new float[capacity]);
+    }
+
+    private <T> T[] copy(T[] from, T[] to) {
+        if (from != null) {
+            System.arraycopy(from, 0, to, 0, size);
+        }
+        return to;
+    }
+
+    private int[] copy(int[] from, int[] to) {
+        if (from != null) {
+            System.arraycopy(from, 0, to, 0, size);
+        }
+        return to;
+    }
+
+    private float[] copy(float[] from, float[] to) {
+        if (from != null) {
+            System.arraycopy(from, 0, to, 0, size);
+        }
+        return to;
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.mathdash.engine.graphics;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+
+/**
+ * TextLabel - A line of text in one font whose glyph layout is kept between
+ * frames and rebuilt only when the text changes.
+ *
+ * Numeric labels format "prefix + value + suffix" into a reused
+ * StringBuilder, so updating a score or counter allocates nothing; text
+ * labels copy into the same buffer and relayout only when handed different
+ * characters, so a reused StringBuilder can be passed every frame. Drawing replays the
+ * cached layout and never measures or lays out glyphs again.
+ */
+public class TextLabel {
+
+    private final BitmapFont font;
+    private final GlyphLayout layout = new GlyphLayout();
+    private final StringBuilder buffer = new StringBuilder(32);
+    private final String prefix;
+    private final String suffix;
+
+    // What the layout currently shows: a number, or the buffer's text when showingText
+    private boolean laidOut;
+    private int value;
+    private boolean showingText;
+
+    public TextLabel(BitmapFont font) {
+        this(font, "", "");
+    }
+
+    /** A numeric label drawn as prefix + value + suffix, e.g. ("Score: ", ""). */
+    public TextLabel(BitmapFont font, String prefix, String suffix) {
+        this.font = font;
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    /** Shows prefix + value + suffix, laying it out only if the value changed. */
+    public void setValue(int value) {
+        if (laidOut && !showingText && value == this.value) {
+            return;
+        }
+        this.value = value;
+        this.showingText = false;
+        buffer.setLength(0);
+        buffer.append(prefix).append(value).append(suffix);
+        relayout();
+    }
+
+    /** Shows the given text as is, laying it out only if it differs from the current text. */
+    public void setText(CharSequence text) {
+        if (text == null) {
+            text = "";
+        }
+        if (laidOut && showingText && isShowing(text)) {
+            return;
+        }
+        this.showingText = true;
+        buffer.setLength(0);
+        buffer.append(text);
+        relayout();
+    }
+
+    public float getWidth() {
+        return layout.width;
+    }
+
+    public float getHeight() {
+        return layout.height;
+    }
+
+    /** Draws with the top-left of the text at (x, y), as BitmapFont.draw does. */
+    public void draw(Batch batch, float x, float y) {
+        if (laidOut) {
+            font.draw(batch, layout, x, y);
+        }
+    }
+
+    /** Draws horizontally centred on centerX. */
+    public void drawCentered(Batch batch, float centerX, float y) {
+        draw(batch, centerX - layout.width / 2f, y);
+    }
+
+    private boolean isShowing(CharSequence text) {
+        if (text.length() != buffer.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) != buffer.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void relayout() {
+        layout.setText(font, buffer);
+        laidOut = true;
+    }
+}
@@ -11,7 +11,11 @@ public interface IInputSystem {
 
     boolean isActionHeld(InputAction action);
 
+    // Polls devices; triggered actions are latched until consumeActions().
     void update();
 
+    // Clears latched triggered actions once a simulation step has seen them.
+    void consumeActions();
+
     void dispose();
 }
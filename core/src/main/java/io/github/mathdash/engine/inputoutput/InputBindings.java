@@ -91,7 +91,12 @@ public class InputBindings {
             return new Array<>();
         }
         Array<AxisPair> pairs = axisPairs.get(axis);
-        return (pairs != null) ? pairs : new Array<>();
+        if (pairs == null) {
+            // Cache the empty list so polling an unbound axis stops allocating
+            pairs = new Array<>();
+            axisPairs.put(axis, pairs);
+        }
+        return pairs;
     }
 
     public Array<Integer> getActionKeys(InputAction action) {
@@ -99,7 +104,11 @@ public class InputBindings {
             return new Array<>();
         }
         Array<Integer> keys = actionKeys.get(action);
-        return (keys != null) ? keys : new Array<>();
+        if (keys == null) {
+            keys = new Array<>();
+            actionKeys.put(action, keys);
+        }
+        return keys;
     }
 
     private void warn(String msg) {
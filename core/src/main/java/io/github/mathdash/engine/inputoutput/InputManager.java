@@ -2,17 +2,21 @@ package io.github.mathdash.engine.inputoutput;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
 
 /**
  * InputManager - Processes keyboard/mouse input each frame via configurable bindings.
  */
 public class InputManager implements IInputSystem {
 
+    // values() clones its array on every call, so iterate cached copies
+    private static final InputAxis[] AXES = InputAxis.values();
+    private static final InputAction[] ACTIONS = InputAction.values();
+
     private final InputBindings bindings;
 
-    private final ObjectMap<InputAxis, Float> axisValues = new ObjectMap<>();
-    private final ObjectMap<InputAction, Boolean> actionTriggered = new ObjectMap<>();
+    // Indexed by ordinal; primitive arrays avoid boxing on every poll
+    private final float[] axisValues = new float[AXES.length];
+    private final boolean[] actionTriggered = new boolean[ACTIONS.length];
 
     private boolean mouseMode = false;
 
@@ -24,31 +28,36 @@ public class InputManager implements IInputSystem {
             throw new IllegalArgumentException("InputBindings cannot be null");
         }
         this.bindings = bindings;
-
-        // Initialise maps with defaults
-        for (InputAxis axis : InputAxis.values()) {
-            axisValues.put(axis, 0f);
-        }
-        for (InputAction action : InputAction.values()) {
-            actionTriggered.put(action, false);
-        }
     }
 
+    // Polls once per rendered frame. A just-pressed action stays triggered until
+    // consumeActions(), so it is neither lost on frames that run no fixed step
+    // nor repeated on frames that run several.
     @Override
     public void update() {
         // Update axes
-        for (InputAxis axis : InputAxis.values()) {
-            axisValues.put(axis, computeAxis(axis));
+        for (InputAxis axis : AXES) {
+            axisValues[axis.ordinal()] = computeAxis(axis);
         }
 
         // Update actions
-        for (InputAction action : InputAction.values()) {
-            actionTriggered.put(action, computeActionJustPressed(action));
+        for (InputAction action : ACTIONS) {
+            boolean pressed = computeActionJustPressed(action);
+            if (pressed) {
+                actionTriggered[action.ordinal()] = true;
+            }
+
+            // Mouse mode toggle handled internally
+            if (pressed && action == InputAction.TOGGLE_MOUSE_MODE) {
+                mouseMode = !mouseMode;
+            }
         }
+    }
 
-        // Mouse mode toggle handled internally
-        if (isActionTriggered(InputAction.TOGGLE_MOUSE_MODE)) {
-            mouseMode = !mouseMode;
+    @Override
+    public void consumeActions() {
+        for (int i = 0; i < actionTriggered.length; i++) {
+            actionTriggered[i] = false;
         }
     }
 
@@ -59,8 +68,7 @@ public class InputManager implements IInputSystem {
         if (axis == null) {
             return 0f; // defensive
         }
-        Float v = axisValues.get(axis);
-        return (v != null) ? v : 0f;
+        return axisValues[axis.ordinal()];
     }
 
     @Override
@@ -68,8 +76,7 @@ public class InputManager implements IInputSystem {
         if (action == null) {
             return false; // defensive
         }
-        Boolean b = actionTriggered.get(action);
-        return b != null && b;
+        return actionTriggered[action.ordinal()];
     }
 
     @Override
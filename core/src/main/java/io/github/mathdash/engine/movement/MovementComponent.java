@@ -32,8 +32,8 @@ public abstract class MovementComponent implements Component {
         }
         validateDeltaTime(deltaTime);
 
-        Transform transform = owner.getComponent(Transform.class);
-        PhysicsBody physics = owner.getComponent(PhysicsBody.class);
+        Transform transform = owner.getComponent(Transform.TYPE);
+        PhysicsBody physics = owner.getComponent(PhysicsBody.TYPE);
 
         if (transform == null) {
             return;
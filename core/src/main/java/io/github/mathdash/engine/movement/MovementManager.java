@@ -1,40 +1,40 @@
 package io.github.mathdash.engine.movement;
 
-import com.badlogic.gdx.utils.Array;
+import io.github.mathdash.engine.util.IndexedArray;
 
 /**
  * MovementManager - Manages a list of MovementComponents.
+ * Add and remove are constant time; iteration order is unspecified
+ * once components have been removed (see IndexedArray).
  */
 public class MovementManager {
 
-    private final Array<MovementComponent> components;
+    private final IndexedArray<MovementComponent> components;
 
     public MovementManager() {
-        this.components = new Array<>();
+        this.components = new IndexedArray<>();
     }
 
-    // Called when an entity with a MovementComponent is spawned.
+    // Called when an entity with a MovementComponent is spawned. Duplicates are ignored.
     public void add(MovementComponent component) {
-        if (component != null && !components.contains(component, true)) {
-            components.add(component);
-        }
+        components.add(component);
     }
 
     // Called when an entity with a MovementComponent is removed.
     public void remove(MovementComponent component) {
-        components.removeValue(component, true);
+        components.remove(component);
     }
 
     // Asks all components to disable themselves.
     public void freezeAll() {
-        for (int i = 0; i < components.size; i++) {
+        for (int i = 0; i < components.size(); i++) {
             components.get(i).disable();
         }
     }
 
     // Asks all components to enable themselves.
     public void unfreezeAll() {
-        for (int i = 0; i < components.size; i++) {
+        for (int i = 0; i < components.size(); i++) {
             components.get(i).enable();
         }
     }
@@ -53,6 +53,6 @@ public class MovementManager {
     }
 
     public int getCount() {
-        return components.size;
+        return components.size();
     }
 }
\ No newline at end of file
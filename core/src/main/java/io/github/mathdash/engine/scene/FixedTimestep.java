@@ -0,0 +1,98 @@
+package io.github.mathdash.engine.scene;
+
+/**
+ * FixedTimestep - Accumulator that turns variable frame times into a whole
+ * number of fixed simulation steps.
+ *
+ * Each frame, advance(frameDelta) returns how many steps of getStepSeconds()
+ * to simulate. The time left over in the accumulator is exposed as
+ * getAlpha() in [0, 1), the fraction of a step the renderer should
+ * interpolate between the previous and current simulation state.
+ *
+ * When a frame is too long to catch up within maxSteps, the excess time is
+ * dropped (the game slows down) instead of running an ever-growing burst of
+ * steps. Dropped steps are counted for diagnostics.
+ */
+public class FixedTimestep {
+
+    /** Default simulation rate: 120 steps per second. */
+    public static final float DEFAULT_STEP_SECONDS = 1f / 120f;
+
+    /** Default catch-up limit: about 66 ms of simulation per frame at 120 Hz. */
+    public static final int DEFAULT_MAX_STEPS = 8;
+
+    private final float stepSeconds;
+    private int maxSteps;
+    private float accumulator;
+    private float alpha;
+    private long droppedSteps;
+    private boolean discardNextDelta;
+
+    public FixedTimestep() {
+        this(DEFAULT_STEP_SECONDS, DEFAULT_MAX_STEPS);
+    }
+
+    public FixedTimestep(float stepSeconds, int maxSteps) {
+        if (!(stepSeconds > 0f) || Float.isInfinite(stepSeconds)) {
+            throw new IllegalArgumentException("stepSeconds must be a finite, positive value");
+        }
+        this.stepSeconds = stepSeconds;
+        setMaxSteps(maxSteps);
+    }
+
+    // Adds one frame's elapsed time and returns the number of fixed steps to run now.
+    public int advance(float frameDelta) {
+        if (!Float.isFinite(frameDelta) || frameDelta < 0f || discardNextDelta) {
+            frameDelta = 0f;
+            discardNextDelta = false;
+        }
+        accumulator += frameDelta;
+
+        int steps = (int) (accumulator / stepSeconds);
+        if (steps > maxSteps) {
+            droppedSteps += steps - maxSteps;
+            steps = maxSteps;
+            accumulator = accumulator % stepSeconds;
+        } else {
+            accumulator -= steps * stepSeconds;
+        }
+
+        alpha = Math.min(accumulator / stepSeconds, 1f);
+        return steps;
+    }
+
+    // Discards accumulated time, e.g. after a scene change or a long load. The next
+    // frame's delta is ignored as well, since it still spans the load.
+    public void reset() {
+        accumulator = 0f;
+        alpha = 0f;
+        discardNextDelta = true;
+    }
+
+    // ---- Getters and Setters ----
+
+    public float getStepSeconds() {
+        return stepSeconds;
+    }
+
+    // Fraction of a step left in the accumulator; use it to interpolate rendering.
+    public float getAlpha() {
+        return alpha;
+    }
+
+    public int getMaxSteps() {
+        return maxSteps;
+    }
+
+    public void setMaxSteps(int maxSteps) {
+        if (maxSteps < 1) {
+            throw new IllegalArgumentException("maxSteps must be at least 1");
+        }
+        this.maxSteps = maxSteps;
+    }
+
+    // Total number of steps skipped because a frame exceeded the catch-up limit.
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+}
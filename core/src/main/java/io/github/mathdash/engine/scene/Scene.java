@@ -75,6 +75,12 @@ public abstract class Scene {
     // Called every frame to render the scene.
     public abstract void render(SpriteBatch batch);
 
+    // Called every frame with the fraction of a fixed step elapsed since the last update.
+    // Scenes that interpolate rendering override this; the default ignores alpha.
+    public void render(SpriteBatch batch, float alpha) {
+        render(batch);
+    }
+
     // Called when the window is resized. Override for custom resize handling.
     protected void onResize(int width, int height) {
         // Default: do nothing. Subclasses can override.
@@ -3,6 +3,8 @@ package io.github.mathdash.engine.scene;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.ObjectMap;
 
+import io.github.mathdash.engine.debug.Trace;
+
 /**
  * SceneManager - Manages loading, unloading, and transitioning between scenes.
  * Only one scene is active at a time. Scenes are registered by name for lookup.
@@ -57,6 +59,8 @@ public class SceneManager {
             throw new IllegalArgumentException("No scene registered with name '" + name + "'.");
         }
 
+        Trace.begin("SceneManager.setScene");
+
         // Hide and (optionally) unload the current scene
         if (currentScene != null) {
             currentScene.hide();
@@ -64,23 +68,36 @@ public class SceneManager {
 
         // Load and show the next scene
         if (!next.isLoaded()) {
+            Trace.begin("Scene.load");
             next.load();
+            Trace.end("Scene.load");
         }
         next.show();
         currentScene = next;
+
+        Trace.end("SceneManager.setScene");
     }
 
     // Updates the current scene.
     public void update(float deltaTime) {
         if (currentScene != null) {
+            Trace.begin("SceneManager.update");
             currentScene.update(deltaTime);
+            Trace.end("SceneManager.update");
         }
     }
 
     // Renders the current scene.
     public void render(SpriteBatch batch) {
+        render(batch, 1f);
+    }
+
+    // Renders the current scene, interpolating by alpha between the last two fixed updates.
+    public void render(SpriteBatch batch, float alpha) {
         if (currentScene != null) {
-            currentScene.render(batch);
+            Trace.begin("SceneManager.render");
+            currentScene.render(batch, alpha);
+            Trace.end("SceneManager.render");
         }
     }
 
@@ -0,0 +1,199 @@
+package io.github.mathdash.engine.util;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * IndexedArray - An unordered array of unique elements with constant-time
+ * add, contains and remove.
+ *
+ * Elements are compared by identity, never by equals(). Each element's
+ * position in the backing array is kept in an open-addressing identity
+ * hash table, so remove() swaps the last element into the vacated slot
+ * instead of shifting the tail.
+ *
+ * Iteration order: elements are visited in insertion order until the first
+ * removal; after that, a removed element's slot is taken by whatever was
+ * last. Callers that need a stable order must not rely on this class.
+ *
+ * Steady-state add/remove performs no allocation; the table only grows.
+ */
+public class IndexedArray<T> {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final Array<T> items;
+
+    // Identity hash table: element -> position in items. Linear probing.
+    private Object[] keys;
+    private int[] positions;
+    private int mask;
+    private int threshold;
+
+    public IndexedArray() {
+        this(16);
+    }
+
+    public IndexedArray(int initialCapacity) {
+        items = new Array<>(false, Math.max(1, initialCapacity));
+        allocateTable(tableSizeFor(initialCapacity));
+    }
+
+    // ---- Mutation ----
+
+    /**
+     * Adds an element. Returns false if it is null or already present.
+     */
+    public boolean add(T item) {
+        if (item == null || indexOf(item) >= 0) {
+            return false;
+        }
+        if (items.size + 1 > threshold) {
+            resize(keys.length << 1);
+        }
+        insert(item, items.size);
+        items.add(item);
+        return true;
+    }
+
+    /**
+     * Removes an element by swapping the last element into its slot.
+     * Returns false if the element was not present.
+     */
+    public boolean remove(T item) {
+        if (item == null) {
+            return false;
+        }
+        int slot = findSlot(item);
+        if (slot < 0) {
+            return false;
+        }
+        int index = positions[slot];
+        deleteSlot(slot);
+
+        int lastIndex = items.size - 1;
+        T last = items.pop();
+        if (index != lastIndex) {
+            items.set(index, last);
+            positions[findSlot(last)] = index;
+        }
+        return true;
+    }
+
+    /**
+     * Removes every element. Keeps the allocated capacity.
+     */
+    public void clear() {
+        items.clear();
+        Arrays.fill(keys, null);
+    }
+
+    // ---- Queries ----
+
+    public boolean contains(T item) {
+        return item != null && findSlot(item) >= 0;
+    }
+
+    /**
+     * Returns the current position of an element, or -1 if absent.
+     */
+    public int indexOf(T item) {
+        if (item == null) {
+            return -1;
+        }
+        int slot = findSlot(item);
+        return slot < 0 ? -1 : positions[slot];
+    }
+
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    public int size() {
+        return items.size;
+    }
+
+    /**
+     * Returns the backing array (read-only intent). Modifying it directly
+     * desynchronises the index table.
+     */
+    public Array<T> items() {
+        return items;
+    }
+
+    // ---- Internal table ----
+
+    private int hash(Object key) {
+        int h = System.identityHashCode(key);
+        h ^= (h >>> 16);
+        return (h * 0x9E3779B9) & mask;
+    }
+
+    private int findSlot(Object key) {
+        int slot = hash(key);
+        while (true) {
+            Object k = keys[slot];
+            if (k == null) {
+                return -1;
+            }
+            if (k == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insert(Object key, int position) {
+        int slot = hash(key);
+        while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        positions[slot] = position;
+    }
+
+    // Backward-shift deletion keeps probe chains intact without tombstones.
+    private void deleteSlot(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != null) {
+            int home = hash(keys[next]);
+            // Move the entry back if the hole lies cyclically between its home and its slot
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                positions[hole] = positions[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = null;
+    }
+
+    private void resize(int newSize) {
+        Object[] oldKeys = keys;
+        int[] oldPositions = positions;
+        allocateTable(newSize);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldPositions[i]);
+            }
+        }
+    }
+
+    private void allocateTable(int size) {
+        keys = new Object[size];
+        positions = new int[size];
+        mask = size - 1;
+        threshold = (int) (size * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int needed = (int) Math.ceil(Math.max(1, capacity) / LOAD_FACTOR);
+        int size = 2;
+        while (size < needed) {
+            size <<= 1;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.mathdash.logic.collision;
+
+/**
+ * CollisionCategory - Game-specific collision category bits for MathDash.
+ *
+ * Only pairs involving the Player matter to CollisionDispatcher, so obstacles
+ * and answer blocks mask each other out and are never tested against each other.
+ * Every game layer has its own bit, clear of CollisionFilter.DEFAULT_CATEGORY,
+ * so a Collidable that keeps the default category is never taken for one of them.
+ */
+public final class CollisionCategory {
+
+    public static final int PLAYER = 1 << 3;
+    public static final int OBSTACLE = 1 << 1;
+    public static final int ANSWER = 1 << 2;
+
+    public static final int PLAYER_MASK = OBSTACLE | ANSWER;
+    public static final int OBSTACLE_MASK = PLAYER;
+    public static final int ANSWER_MASK = PLAYER;
+
+    private CollisionCategory() {
+        // Non-instantiable constants holder
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.mathdash.logic.component;
 
 import io.github.mathdash.engine.entity.Component;
+import io.github.mathdash.engine.entity.ComponentType;
 import io.github.mathdash.engine.entity.Entity;
 
 /**
@@ -9,6 +10,8 @@ import io.github.mathdash.engine.entity.Entity;
  */
 public class HealthComponent implements Component {
 
+    public static final ComponentType<HealthComponent> TYPE = ComponentType.of(HealthComponent.class);
+
     private int lives;
     private final int maxLives;
 
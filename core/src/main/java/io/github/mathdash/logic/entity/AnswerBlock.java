@@ -1,11 +1,14 @@
 package io.github.mathdash.logic.entity;
 
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.math.Rectangle;
 import io.github.mathdash.engine.collision.Collidable;
 import io.github.mathdash.engine.collision.CollisionResult;
 import io.github.mathdash.engine.entity.Entity;
 import io.github.mathdash.engine.entity.Renderable;
 import io.github.mathdash.engine.entity.Transform;
+import io.github.mathdash.engine.graphics.TextLabel;
+import io.github.mathdash.logic.collision.CollisionCategory;
 import io.github.mathdash.logic.collision.CollisionHandler;
 import io.github.mathdash.logic.movement.ScrollMovement;
 
@@ -13,21 +16,33 @@ import io.github.mathdash.logic.movement.ScrollMovement;
  * AnswerBlock - An answer option that scrolls from right to left.
  * Each block carries a numeric value and whether it's the correct answer.
  * Accepts a pre-built Renderable component for decoupled rendering.
+ * Pooled by AnswerBlockFactory: spawn() re-initialises a recycled instance.
  */
 public class AnswerBlock extends Entity implements Collidable {
 
     private static final float WIDTH = 48f;
     private static final float HEIGHT = 48f;
 
-    private final int answerValue;
-    private final boolean correct;
+    private int answerValue;
+    // Value label drawn by the HUD, laid out on spawn; null when built without a font (headless)
+    private final TextLabel label;
+    private boolean correct;
     private CollisionHandler collisionHandler;
     private final Rectangle bounds;
 
     public AnswerBlock(Renderable template, float x, float y, float scrollSpeed,
                        int answerValue, boolean correct) {
+        this(template, null, x, y, scrollSpeed, answerValue, correct);
+    }
+
+    public AnswerBlock(Renderable template, BitmapFont labelFont, float x, float y, float scrollSpeed,
+                       int answerValue, boolean correct) {
         super();
         this.answerValue = answerValue;
+        this.label = labelFont != null ? new TextLabel(labelFont) : null;
+        if (label != null) {
+            label.setValue(answerValue);
+        }
         this.correct = correct;
 
         addComponent(new Transform(x, y));
@@ -36,10 +51,36 @@ public class AnswerBlock extends Entity implements Collidable {
         this.bounds = new Rectangle(x - WIDTH / 2f, y - HEIGHT / 2f, WIDTH, HEIGHT);
     }
 
+    /**
+     * Re-initialises this block for a new spawn, reusing its components.
+     */
+    public void spawn(Renderable template, float x, float y, float scrollSpeed,
+                      int answerValue, boolean correct) {
+        if (label != null) {
+            label.setValue(answerValue);
+        }
+        this.answerValue = answerValue;
+        this.correct = correct;
+        getComponent(Transform.TYPE).setPosition(x, y);
+        getComponent(Transform.TYPE).setRotation(0f);
+        Renderable renderable = getComponent(Renderable.TYPE);
+        renderable.setTextureRegion(template.getTextureRegion());
+        renderable.setVisible(true);
+        setScrollSpeed(scrollSpeed);
+        bounds.setPosition(x - WIDTH / 2f, y - HEIGHT / 2f);
+        setActive(true);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        collisionHandler = null;
+    }
+
     @Override
     public void update(float deltaTime) {
         super.update(deltaTime);
-        Transform transform = getComponent(Transform.class);
+        Transform transform = getComponent(Transform.TYPE);
         if (transform != null) {
             bounds.setPosition(transform.getX() - WIDTH / 2f, transform.getY() - HEIGHT / 2f);
         }
@@ -48,6 +89,9 @@ public class AnswerBlock extends Entity implements Collidable {
     public int getAnswerValue() { 
         return answerValue; 
     }
+    public TextLabel getLabel() {
+        return label;
+    }
     public boolean isCorrect() { 
         return correct; 
     }
@@ -57,7 +101,7 @@ public class AnswerBlock extends Entity implements Collidable {
     }
 
     public void setScrollSpeed(float speed) {
-        ScrollMovement sm = getComponent(ScrollMovement.class);
+        ScrollMovement sm = getComponent(ScrollMovement.TYPE);
         if (sm != null) {
             sm.setSpeed(speed);
         }
@@ -79,4 +123,14 @@ public class AnswerBlock extends Entity implements Collidable {
     public boolean isCollidable() { 
         return isActive(); 
     }
+
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.ANSWER;
+    }
+
+    @Override
+    public int getCollisionMask() {
+        return CollisionCategory.ANSWER_MASK;
+    }
 }
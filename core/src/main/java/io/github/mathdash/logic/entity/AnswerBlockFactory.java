@@ -1,18 +1,28 @@
 package io.github.mathdash.logic.entity;
 
-import io.github.mathdash.engine.entity.GenericFactory;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+
+import io.github.mathdash.engine.entity.PooledFactory;
 import io.github.mathdash.engine.entity.Renderable;
 
 /**
  * AnswerBlockFactory - Creates AnswerBlock entities with pre-built Renderable components.
+ * Answer blocks are pooled: EntityManager returns removed ones for reuse.
+ * With a label font, each block lays out its value label when it spawns.
  */
-public class AnswerBlockFactory implements GenericFactory<AnswerBlock> {
+public class AnswerBlockFactory extends PooledFactory<AnswerBlock> {
 
     private final Renderable blockRenderable;
+    private final BitmapFont labelFont;
     private float scrollSpeed;
 
     public AnswerBlockFactory(Renderable blockRenderable, float scrollSpeed) {
+        this(blockRenderable, scrollSpeed, null);
+    }
+
+    public AnswerBlockFactory(Renderable blockRenderable, float scrollSpeed, BitmapFont labelFont) {
         this.blockRenderable = blockRenderable;
+        this.labelFont = labelFont;
         this.scrollSpeed = scrollSpeed;
     }
 
@@ -22,14 +32,21 @@ public class AnswerBlockFactory implements GenericFactory<AnswerBlock> {
      */
     @Override
     public AnswerBlock create(float x, float y) {
-        return new AnswerBlock(blockRenderable, x, y, scrollSpeed, 0, false);
+        return create(x, y, 0, false);
     }
 
     /**
      * Creates an AnswerBlock with a specific answer value and correctness.
      */
     public AnswerBlock create(float x, float y, int answerValue, boolean correct) {
-        return new AnswerBlock(blockRenderable, x, y, scrollSpeed, answerValue, correct);
+        AnswerBlock block = obtain();
+        block.spawn(blockRenderable, x, y, scrollSpeed, answerValue, correct);
+        return block;
+    }
+
+    @Override
+    protected AnswerBlock newEntity() {
+        return new AnswerBlock(blockRenderable, labelFont, 0f, 0f, scrollSpeed, 0, false);
     }
 
     public void setScrollSpeed(float speed) {
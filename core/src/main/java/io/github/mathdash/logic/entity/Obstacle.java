@@ -6,12 +6,14 @@ import io.github.mathdash.engine.collision.CollisionResult;
 import io.github.mathdash.engine.entity.Entity;
 import io.github.mathdash.engine.entity.Renderable;
 import io.github.mathdash.engine.entity.Transform;
+import io.github.mathdash.logic.collision.CollisionCategory;
 import io.github.mathdash.logic.collision.CollisionHandler;
 import io.github.mathdash.logic.movement.ScrollMovement;
 
 /**
  * Obstacle - An obstacle entity that scrolls from right to left.
  * Accepts a pre-built Renderable component for decoupled rendering.
+ * Pooled by ObstacleFactory: spawn() re-initialises a recycled instance.
  */
 public class Obstacle extends Entity implements Collidable {
 
@@ -29,10 +31,30 @@ public class Obstacle extends Entity implements Collidable {
         this.bounds = new Rectangle(x - WIDTH / 2f, y - HEIGHT / 2f, WIDTH, HEIGHT);
     }
 
+    /**
+     * Re-initialises this obstacle for a new spawn, reusing its components.
+     */
+    public void spawn(Renderable template, float x, float y, float scrollSpeed) {
+        getComponent(Transform.TYPE).setPosition(x, y);
+        getComponent(Transform.TYPE).setRotation(0f);
+        Renderable renderable = getComponent(Renderable.TYPE);
+        renderable.setTextureRegion(template.getTextureRegion());
+        renderable.setVisible(true);
+        setScrollSpeed(scrollSpeed);
+        bounds.setPosition(x - WIDTH / 2f, y - HEIGHT / 2f);
+        setActive(true);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        collisionHandler = null;
+    }
+
     @Override
     public void update(float deltaTime) {
         super.update(deltaTime);
-        Transform transform = getComponent(Transform.class);
+        Transform transform = getComponent(Transform.TYPE);
         if (transform != null) {
             bounds.setPosition(transform.getX() - WIDTH / 2f, transform.getY() - HEIGHT / 2f);
         }
@@ -43,7 +65,7 @@ public class Obstacle extends Entity implements Collidable {
     }
 
     public void setScrollSpeed(float speed) {
-        ScrollMovement sm = getComponent(ScrollMovement.class);
+        ScrollMovement sm = getComponent(ScrollMovement.TYPE);
         if (sm != null) {
             sm.setSpeed(speed);
         }
@@ -63,4 +85,14 @@ public class Obstacle extends Entity implements Collidable {
     public boolean isCollidable() { 
         return isActive(); 
     }
+
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.OBSTACLE;
+    }
+
+    @Override
+    public int getCollisionMask() {
+        return CollisionCategory.OBSTACLE_MASK;
+    }
 }
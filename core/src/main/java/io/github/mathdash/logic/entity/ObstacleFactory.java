@@ -1,6 +1,6 @@
 package io.github.mathdash.logic.entity;
 
-import io.github.mathdash.engine.entity.GenericFactory;
+import io.github.mathdash.engine.entity.PooledFactory;
 import io.github.mathdash.engine.entity.Renderable;
 
 /**
@@ -8,8 +8,9 @@ import io.github.mathdash.engine.entity.Renderable;
  * Design Pattern: Factory Method.
  *
  * Cycles through an array of Renderables (saw, spike, slime) using round-robin.
+ * Obstacles are pooled: EntityManager returns removed ones for reuse.
  */
-public class ObstacleFactory implements GenericFactory<Obstacle> {
+public class ObstacleFactory extends PooledFactory<Obstacle> {
 
     private final Renderable[] renderables;
     private int renderableIndex = 0;
@@ -24,7 +25,14 @@ public class ObstacleFactory implements GenericFactory<Obstacle> {
     public Obstacle create(float x, float y) {
         Renderable renderable = renderables[renderableIndex % renderables.length];
         renderableIndex++;
-        return new Obstacle(renderable, x, y, scrollSpeed);
+        Obstacle obstacle = obtain();
+        obstacle.spawn(renderable, x, y, scrollSpeed);
+        return obstacle;
+    }
+
+    @Override
+    protected Obstacle newEntity() {
+        return new Obstacle(renderables[0], 0f, 0f, scrollSpeed);
     }
 
     public void setScrollSpeed(float speed) {
@@ -6,6 +6,7 @@ import io.github.mathdash.engine.collision.CollisionResult;
 import io.github.mathdash.engine.entity.Entity;
 import io.github.mathdash.engine.entity.Renderable;
 import io.github.mathdash.engine.entity.Transform;
+import io.github.mathdash.logic.collision.CollisionCategory;
 import io.github.mathdash.logic.collision.CollisionHandler;
 import io.github.mathdash.logic.component.HealthComponent;
 
@@ -54,7 +55,7 @@ public class Player extends Entity implements Collidable {
     public void update(float deltaTime) {
         super.update(deltaTime);
 
-        Transform transform = getComponent(Transform.class);
+        Transform transform = getComponent(Transform.TYPE);
 
         // Smooth lane switching
         float currentY = transform.getY();
@@ -80,7 +81,7 @@ public class Player extends Entity implements Collidable {
 
         // Animation
         animTimer += deltaTime;
-        Renderable renderable = getComponent(Renderable.class);
+        Renderable renderable = getComponent(Renderable.TYPE);
         if (renderable != null) {
             if (hitFlashTimer > 0f && hit != null) {
                 renderable.setTextureRegion(hit.getTextureRegion());
@@ -108,6 +109,22 @@ public class Player extends Entity implements Collidable {
         }
     }
 
+    // Puts the player back in the bottom lane with full lives, as when created.
+    public void respawn() {
+        currentLane = 0;
+        targetY = LANE_Y[0];
+        hitFlashTimer = 0f;
+        animTimer = 0f;
+        Transform transform = getComponent(Transform.TYPE);
+        transform.setPosition(120f, LANE_Y[0]);
+        transform.savePrevious();
+        bounds.setPosition(120f - WIDTH / 2f, LANE_Y[0] - HEIGHT / 2f);
+        HealthComponent health = getComponent(HealthComponent.TYPE);
+        if (health != null) health.reset();
+        Renderable renderable = getComponent(Renderable.TYPE);
+        if (renderable != null) renderable.setVisible(true);
+    }
+
     public int getCurrentLane() { 
         return currentLane; 
     }
@@ -117,17 +134,17 @@ public class Player extends Entity implements Collidable {
     }
 
     public void loseLife() {
-        HealthComponent health = getComponent(HealthComponent.class);
+        HealthComponent health = getComponent(HealthComponent.TYPE);
         if (health != null) health.loseLife();
     }
 
     public void gainLife() {
-        HealthComponent health = getComponent(HealthComponent.class);
+        HealthComponent health = getComponent(HealthComponent.TYPE);
         if (health != null) health.gainLife();
     }
 
     public int getLives() {
-        HealthComponent health = getComponent(HealthComponent.class);
+        HealthComponent health = getComponent(HealthComponent.TYPE);
         return health != null ? health.getLives() : 0;
     }
 
@@ -152,6 +169,16 @@ public class Player extends Entity implements Collidable {
         return isActive(); 
     }
 
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.PLAYER;
+    }
+
+    @Override
+    public int getCollisionMask() {
+        return CollisionCategory.PLAYER_MASK;
+    }
+
     public float getWidth() { 
         return WIDTH; 
     }
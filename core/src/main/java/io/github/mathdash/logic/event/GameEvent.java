@@ -0,0 +1,45 @@
+package io.github.mathdash.logic.event;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * GameEvent - Pooled, typed gameplay event queued by GameEventQueue.
+ */
+public class GameEvent implements Pool.Poolable {
+
+    /** Kinds of gameplay events raised during the physics step. */
+    public enum Type {
+        HEALTH_CHANGED,
+        OBSTACLE_HIT,
+        CORRECT_ANSWER,
+        WRONG_ANSWER,
+        PLAYER_DEATH
+    }
+
+    private Type type;
+    private int value;
+
+    void set(Type type, int value) {
+        this.type = type;
+        this.value = value;
+    }
+
+    void setValue(int value) {
+        this.value = value;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /** Event payload; the new health for HEALTH_CHANGED, otherwise 0. */
+    public int getValue() {
+        return value;
+    }
+
+    @Override
+    public void reset() {
+        type = null;
+        value = 0;
+    }
+}
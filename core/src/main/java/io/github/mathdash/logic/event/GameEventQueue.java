@@ -0,0 +1,133 @@
+package io.github.mathdash.logic.event;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+import io.github.mathdash.logic.collision.CollisionDispatcher;
+
+/**
+ * GameEventQueue - Defers gameplay events raised during the physics step
+ * and delivers them in one batch afterwards.
+ *
+ * CollisionDispatcher reports into this queue while CollisionManager is still
+ * iterating, so listeners that add or remove entities never run re-entrantly.
+ * Events are pooled and coalesced per drain: only the latest HEALTH_CHANGED
+ * value is kept and every other event type is delivered at most once.
+ * Delivery preserves the order in which each type was first raised.
+ */
+public class GameEventQueue implements CollisionDispatcher.GameEventListener {
+
+    private final Pool<GameEvent> pool = new Pool<GameEvent>() {
+        @Override
+        protected GameEvent newObject() {
+            return new GameEvent();
+        }
+    };
+
+    private final Array<GameEvent> pending = new Array<>();
+    private final Array<GameEvent> draining = new Array<>();
+
+    // ---- CollisionDispatcher.GameEventListener (enqueue side) ----
+
+    @Override
+    public void onHealthChanged(int newHealth) {
+        post(GameEvent.Type.HEALTH_CHANGED, newHealth);
+    }
+
+    @Override
+    public void onPlayerDeath() {
+        post(GameEvent.Type.PLAYER_DEATH, 0);
+    }
+
+    @Override
+    public void onCorrectAnswer() {
+        post(GameEvent.Type.CORRECT_ANSWER, 0);
+    }
+
+    @Override
+    public void onWrongAnswer() {
+        post(GameEvent.Type.WRONG_ANSWER, 0);
+    }
+
+    @Override
+    public void onObstacleHit() {
+        post(GameEvent.Type.OBSTACLE_HIT, 0);
+    }
+
+    // ---- Queue ----
+
+    /**
+     * Queues an event, merging it into an already pending event of the same type.
+     */
+    public void post(GameEvent.Type type, int value) {
+        if (type == null) {
+            return;
+        }
+        for (int i = 0; i < pending.size; i++) {
+            GameEvent existing = pending.get(i);
+            if (existing.getType() == type) {
+                existing.setValue(value);
+                return;
+            }
+        }
+        GameEvent event = pool.obtain();
+        event.set(type, value);
+        pending.add(event);
+    }
+
+    /**
+     * Delivers all pending events to the listener in order and returns them to the pool.
+     * Events posted while draining are kept for the next drain.
+     */
+    public void drain(CollisionDispatcher.GameEventListener listener) {
+        if (pending.size == 0) {
+            return;
+        }
+        draining.addAll(pending);
+        pending.clear();
+
+        for (int i = 0; i < draining.size; i++) {
+            GameEvent event = draining.get(i);
+            if (listener != null) {
+                dispatch(event, listener);
+            }
+        }
+        pool.freeAll(draining);
+        draining.clear();
+    }
+
+    /** Returns the number of events waiting for the next drain. */
+    public int getPendingCount() {
+        return pending.size;
+    }
+
+    /** Discards all pending events without delivering them. */
+    public void clear() {
+        pool.freeAll(pending);
+        pending.clear();
+    }
+
+    // ---- Internal ----
+
+    private void dispatch(GameEvent event, CollisionDispatcher.GameEventListener listener) {
+        switch (event.getType()) {
+            case HEALTH_CHANGED:
+                listener.onHealthChanged(event.getValue());
+                break;
+            case OBSTACLE_HIT:
+                listener.onObstacleHit();
+                break;
+            case CORRECT_ANSWER:
+                listener.onCorrectAnswer();
+                break;
+            case WRONG_ANSWER:
+                listener.onWrongAnswer();
+                break;
+            case PLAYER_DEATH:
+                listener.onPlayerDeath();
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -22,29 +22,37 @@ public class Level1 implements Questions {
     }
 
     @Override
-    public MathQuestion generate() {
-        return operations.get(random.nextInt(operations.size())).generate();
+    public void setSeed(long seed) {
+        random.setSeed(seed);
     }
 
-    private MathQuestion generateAddition() {
+    @Override
+    public void generate(MathQuestion question) {
+        operations.get(random.nextInt(operations.size())).generate(question);
+    }
+
+    private void generateAddition(MathQuestion question) {
         int a = random.nextInt(50) + 1;
         int b = random.nextInt(50) + 1;
-        return createQuestion(a + " + " + b, a + b);
+        question.beginText().append(a).append(" + ").append(b);
+        createQuestion(question, a + b);
     }
 
-    private MathQuestion generateSubtraction() {
+    private void generateSubtraction(MathQuestion question) {
         int a = random.nextInt(91) + 10;
         int b = random.nextInt(a) + 1;
-        return createQuestion(a + " - " + b, a - b);
+        question.beginText().append(a).append(" - ").append(b);
+        createQuestion(question, a - b);
     }
 
-    protected MathQuestion createQuestion(String text, int correctAnswer) {
+    // Completes a question whose expression has been written with beginText()
+    protected void createQuestion(MathQuestion question, int correctAnswer) {
         int wrong1 = generateWrong(correctAnswer);
         int wrong2;
         do { 
             wrong2 = generateWrong(correctAnswer); 
         } while (wrong2 == wrong1);
-        return new MathQuestion(text + " = ?", correctAnswer, wrong1, wrong2);
+        question.complete(correctAnswer, wrong1, wrong2);
     }
 
     protected int generateWrong(int correct) {
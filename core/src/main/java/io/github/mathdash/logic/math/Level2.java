@@ -11,9 +11,10 @@ public class Level2 extends Level1 {
         operations.add(this::generateMultiplication);
     }
 
-    private MathQuestion generateMultiplication() {
+    private void generateMultiplication(MathQuestion question) {
         int a = random.nextInt(9) + 2;
         int b = random.nextInt(9) + 2;
-        return createQuestion(a + " x " + b, a * b);
+        question.beginText().append(a).append(" x ").append(b);
+        createQuestion(question, a * b);
     }
 }
\ No newline at end of file
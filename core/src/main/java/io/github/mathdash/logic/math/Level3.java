@@ -11,9 +11,10 @@ public class Level3 extends Level2 {
         operations.add(this::generateDivision);
     }
 
-    private MathQuestion generateDivision() {
+    private void generateDivision(MathQuestion question) {
         int b = random.nextInt(9) + 2;
         int answer = random.nextInt(10) + 1;
-        return createQuestion((b * answer) + " / " + b, answer);
+        question.beginText().append(b * answer).append(" / ").append(b);
+        createQuestion(question, answer);
     }
 }
\ No newline at end of file
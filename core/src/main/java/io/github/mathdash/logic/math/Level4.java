@@ -17,47 +17,59 @@ public class Level4 extends Level3 {
         operations.add(this::generateDivideAdd);
     }
 
-    private MathQuestion generateAddBracket() {
+    private void generateAddBracket(MathQuestion question) {
         for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
             int a = random.nextInt(20) + 1, b = random.nextInt(20) + 1, c = random.nextInt(10) + 1;
             int answer = (a + b) * c;
             if (answer <= 100) {
-                return createQuestion("(" + a + " + " + b + ") x " + c, answer);
+                question.beginText().append('(').append(a).append(" + ").append(b).append(") x ").append(c);
+                createQuestion(question, answer);
+                return;
             }
         }
-        return createQuestion("(1 + 2) x 3", 9);
+        question.beginText().append("(1 + 2) x 3");
+        createQuestion(question, 9);
     }
 
-    private MathQuestion generateSubtractBracket() {
+    private void generateSubtractBracket(MathQuestion question) {
         for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
             int a = random.nextInt(26) + 5, b = random.nextInt(a - 1) + 1, c = random.nextInt(4) + 2;
             int answer = (a - b) * c;
             if (answer <= 100) {
-                return createQuestion("(" + a + " - " + b + ") x " + c, answer);
+                question.beginText().append('(').append(a).append(" - ").append(b).append(") x ").append(c);
+                createQuestion(question, answer);
+                return;
             }
         }
-        return createQuestion("(5 - 2) x 3", 9);
+        question.beginText().append("(5 - 2) x 3");
+        createQuestion(question, 9);
     }
 
-    private MathQuestion generateMultiplyAdd() {
+    private void generateMultiplyAdd(MathQuestion question) {
         for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
             int a = random.nextInt(9) + 2, b = random.nextInt(9) + 2, c = random.nextInt(20) + 1;
             int answer = a * b + c;
             if (answer <= 100) {
-                return createQuestion(a + " x " + b + " + " + c, answer);
+                question.beginText().append(a).append(" x ").append(b).append(" + ").append(c);
+                createQuestion(question, answer);
+                return;
             }
         }
-        return createQuestion("2 x 3 + 4", 10);
+        question.beginText().append("2 x 3 + 4");
+        createQuestion(question, 10);
     }
 
-    private MathQuestion generateDivideAdd() {
+    private void generateDivideAdd(MathQuestion question) {
         for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
             int c = random.nextInt(4) + 2, inner = random.nextInt(19) + 2, b = random.nextInt(10) + 1;
             int a = inner * c, answer = inner + b;
             if (answer <= 100 && a <= 100) {
-                return createQuestion(a + " / " + c + " + " + b, answer);
+                question.beginText().append(a).append(" / ").append(c).append(" + ").append(b);
+                createQuestion(question, answer);
+                return;
             }
         }
-        return createQuestion("6 / 2 + 1", 4);
+        question.beginText().append("6 / 2 + 1");
+        createQuestion(question, 4);
     }
 }
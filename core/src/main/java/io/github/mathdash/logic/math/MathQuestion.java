@@ -2,22 +2,28 @@ package io.github.mathdash.logic.math;
 
 /**
  * MathQuestion - Data class representing a math question with its answer.
+ * A Questions strategy fills one in place, so a game keeps a single
+ * instance and asking a new question allocates nothing.
  */
 public class MathQuestion {
 
-    private final String questionText;
-    private final int correctAnswer;
-    private final int wrongAnswer1;
-    private final int wrongAnswer2;
+    private final StringBuilder questionText = new StringBuilder(24);
+    private int correctAnswer;
+    private int wrongAnswer1;
+    private int wrongAnswer2;
+
+    public MathQuestion() {
+    }
 
     public MathQuestion(String questionText, int correctAnswer, int wrongAnswer1, int wrongAnswer2) {
-        this.questionText = questionText;
+        this.questionText.append(questionText);
         this.correctAnswer = correctAnswer;
         this.wrongAnswer1 = wrongAnswer1;
         this.wrongAnswer2 = wrongAnswer2;
     }
 
-    public String getQuestionText() { 
+    /** The question as shown, e.g. "3 + 4 = ?". Changes when the question is filled again. */
+    public CharSequence getQuestionText() { 
         return questionText; 
     }
     public int getCorrectAnswer() { 
@@ -29,4 +35,18 @@ public class MathQuestion {
     public int getWrongAnswer2() { 
         return wrongAnswer2; 
     }
+
+    // Clears the text for a strategy to write the next question into
+    StringBuilder beginText() {
+        questionText.setLength(0);
+        return questionText;
+    }
+
+    // Ends the text written since beginText() with " = ?" and sets the answers
+    void complete(int correctAnswer, int wrongAnswer1, int wrongAnswer2) {
+        questionText.append(" = ?");
+        this.correctAnswer = correctAnswer;
+        this.wrongAnswer1 = wrongAnswer1;
+        this.wrongAnswer2 = wrongAnswer2;
+    }
 }
@@ -29,7 +29,15 @@ public class MathQuestionGenerator {
         this.strategy = s;
     }
 
-    public MathQuestion generate() {
-        return strategy.generate();
+    /** Fills the given question in place with a new one for this level. */
+    public void generate(MathQuestion question) {
+        strategy.generate(question);
+    }
+
+    /** Reseeds every level's strategy so question sequences are reproducible (benchmarks, simulations). */
+    public static void setSeed(long seed) {
+        for (Map.Entry<Integer, Questions> entry : STRATEGIES.entrySet()) {
+            entry.getValue().setSeed(seed + entry.getKey());
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package io.github.mathdash.logic.math;
 
 public interface Questions {
-    MathQuestion generate();
+    /** Fills the given question in place with a new one. */
+    void generate(MathQuestion question);
+
+    /** Reseeds this strategy's random source so its questions are reproducible. */
+    default void setSeed(long seed) { }
 }
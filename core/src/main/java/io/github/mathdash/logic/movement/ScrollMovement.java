@@ -1,5 +1,6 @@
 package io.github.mathdash.logic.movement;
 
+import io.github.mathdash.engine.entity.ComponentType;
 import io.github.mathdash.engine.entity.PhysicsBody;
 import io.github.mathdash.engine.entity.Transform;
 import io.github.mathdash.engine.movement.MovementComponent;
@@ -9,6 +10,8 @@ import io.github.mathdash.engine.movement.MovementComponent;
  */
 public class ScrollMovement extends MovementComponent {
 
+    public static final ComponentType<ScrollMovement> TYPE = ComponentType.of(ScrollMovement.class);
+
     private float speed;
 
     public ScrollMovement(float speed) {
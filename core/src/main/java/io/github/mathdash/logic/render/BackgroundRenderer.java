@@ -1,13 +1,27 @@
 package io.github.mathdash.logic.render;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.utils.Array;
+
+import io.github.mathdash.engine.graphics.RenderLayer;
+import io.github.mathdash.engine.graphics.RenderQueue;
 
 /**
  * BackgroundRenderer - Renders the scrolling parallax background,
  * lane bands (grass + dirt), and decorative elements.
+ *
+ * Two band modes:
+ *   - Tiled (default): bands are tiled from the given regions, a quad per
+ *     visible tile. This is only for callers that never pass scrolling
+ *     textures; the band regions may be null when they do.
+ *   - Scrolling: after setScrollingTextures(...), each band is one quad of a
+ *     repeat-wrapped texture whose U coordinates scroll, a constant 8 quads
+ *     whatever the world width.
+ *
+ * Decorations live in a preallocated ring of primitive arrays: they spawn
+ * at the right edge and leave at the left in the same order, so the oldest
+ * is always at the head.
  */
 public class BackgroundRenderer {
 
@@ -25,88 +39,194 @@ public class BackgroundRenderer {
         {450f, 30f},
     };
     private static final float SKY_Y = 480f;
+    private static final float DIRT_TILE_WIDTH = 100f;
     private static final float DECO_SPAWN_INTERVAL = 80f;
+    private static final float DECO_SIZE = 48f;
+    private static final float DECO_DESPAWN_X = -50f;
+
+    private final TextureRegion bgRegion;
+    private final TextureRegion grassBgRegion;
+    private final TextureRegion dirtBgRegion;
+    private final TextureRegion decoGrassRegion;
+    private final TextureRegion decoBushRegion;
 
-    private final Texture bgTexture;
-    private final Texture grassBgTexture;
-    private final Texture dirtBgTexture;
-    private final Texture decoGrassTex;
-    private final Texture decoBushTex;
+    // Scrolling mode: whole-texture regions whose U range moves every frame; null while tiled
+    private TextureRegion skyScroll;
+    private TextureRegion grassScroll;
+    private TextureRegion dirtScroll;
 
     private float bgScrollX = 0f;
     private float floorScrollX = 0f;
-    private final Array<float[]> decorations = new Array<>();
+    // Distance scrolled during the last update, used to interpolate rendering
+    private float lastBgMove = 0f;
+    private float lastFloorMove = 0f;
+
+    // Decoration ring buffer, oldest first from decoHead
+    private float[] decoX;
+    private float[] decoY;
+    private boolean[] decoBush;
+    private int decoHead;
+    private int decoCount;
     private float decoSpawnAccum = 0f;
 
-    public BackgroundRenderer(float worldWidth, float worldHeight, Texture bgTexture, Texture grassBgTexture, Texture dirtBgTexture,
-                              Texture decoGrassTex, Texture decoBushTex) {
+    public BackgroundRenderer(float worldWidth, float worldHeight, TextureRegion bgRegion, TextureRegion grassBgRegion, TextureRegion dirtBgRegion,
+                              TextureRegion decoGrassRegion, TextureRegion decoBushRegion) {
         this.worldWidth = worldWidth;
         this.worldHeight = worldHeight;
-        this.bgTexture = bgTexture;
-        this.grassBgTexture = grassBgTexture;
-        this.dirtBgTexture = dirtBgTexture;
-        this.decoGrassTex = decoGrassTex;
-        this.decoBushTex = decoBushTex;
+        this.bgRegion = bgRegion;
+        this.grassBgRegion = grassBgRegion;
+        this.dirtBgRegion = dirtBgRegion;
+        this.decoGrassRegion = decoGrassRegion;
+        this.decoBushRegion = decoBushRegion;
+
+        // Room for every decoration between the despawn line and the spawn margin, plus slack
+        int capacity = (int) ((worldWidth + 40f - DECO_DESPAWN_X) / DECO_SPAWN_INTERVAL) + 4;
+        decoX = new float[capacity];
+        decoY = new float[capacity];
+        decoBush = new boolean[capacity];
 
         for (float x = 0; x < this.worldWidth; x += DECO_SPAWN_INTERVAL) {
-            float[] band = GRASS_BANDS[MathUtils.random(GRASS_BANDS.length - 1)];
-            float y = band[0] + MathUtils.random(0f, Math.max(0f, band[1] - 48f));
-            float texIdx = MathUtils.randomBoolean() ? 0f : 1f;
-            decorations.add(new float[]{x + MathUtils.random(-20f, 20f), y, texIdx});
+            spawnDecoration(x + MathUtils.random(-20f, 20f));
+        }
+    }
+
+    // Switches the bands to scrolling mode. The textures are set to repeat horizontally;
+    // the caller keeps ownership. Passing nulls returns to tiled mode.
+    public void setScrollingTextures(Texture sky, Texture grass, Texture dirt) {
+        if (sky == null || grass == null || dirt == null) {
+            skyScroll = grassScroll = dirtScroll = null;
+            return;
         }
+        skyScroll = scrollRegion(sky);
+        grassScroll = scrollRegion(grass);
+        dirtScroll = scrollRegion(dirt);
+    }
+
+    private static TextureRegion scrollRegion(Texture texture) {
+        texture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
+        return new TextureRegion(texture);
     }
 
     public void update(float deltaTime, float scrollSpeed) {
-        bgScrollX += scrollSpeed * 0.3f * deltaTime;
-        floorScrollX += scrollSpeed * deltaTime;
+        lastBgMove = scrollSpeed * 0.3f * deltaTime;
+        lastFloorMove = scrollSpeed * deltaTime;
+        bgScrollX += lastBgMove;
+        floorScrollX += lastFloorMove;
 
         float decoMove = scrollSpeed * deltaTime;
-        for (int i = decorations.size - 1; i >= 0; i--) {
-            float[] d = decorations.get(i);
-            d[0] -= decoMove;
-            if (d[0] < -50f) {
-                decorations.removeIndex(i);
-            }
+        for (int i = 0; i < decoCount; i++) {
+            decoX[(decoHead + i) % decoX.length] -= decoMove;
+        }
+        while (decoCount > 0 && decoX[decoHead] < DECO_DESPAWN_X) {
+            decoHead = (decoHead + 1) % decoX.length;
+            decoCount--;
         }
         decoSpawnAccum += decoMove;
         while (decoSpawnAccum >= DECO_SPAWN_INTERVAL) {
             decoSpawnAccum -= DECO_SPAWN_INTERVAL;
-            float[] band = GRASS_BANDS[MathUtils.random(GRASS_BANDS.length - 1)];
-            float y = band[0] + MathUtils.random(0f, Math.max(0f, band[1] - 48f));
-            float texIdx = MathUtils.randomBoolean() ? 0f : 1f;
-            decorations.add(new float[]{this.worldWidth + MathUtils.random(0f, 40f), y, texIdx});
+            spawnDecoration(this.worldWidth + MathUtils.random(0f, 40f));
+        }
+    }
+
+    private void spawnDecoration(float x) {
+        if (decoCount == decoX.length) {
+            growDecorations();
+        }
+        float[] band = GRASS_BANDS[MathUtils.random(GRASS_BANDS.length - 1)];
+        int slot = (decoHead + decoCount) % decoX.length;
+        decoX[slot] = x;
+        decoY[slot] = band[0] + MathUtils.random(0f, Math.max(0f, band[1] - DECO_SIZE));
+        decoBush[slot] = MathUtils.randomBoolean();
+        decoCount++;
+    }
+
+    // Only reachable if the world is resized far beyond the initial capacity
+    private void growDecorations() {
+        int capacity = decoX.length;
+        float[] x = new float[capacity * 2];
+        float[] y = new float[capacity * 2];
+        boolean[] bush = new boolean[capacity * 2];
+        for (int i = 0; i < decoCount; i++) {
+            int from = (decoHead + i) % capacity;
+            x[i] = decoX[from];
+            y[i] = decoY[from];
+            bush[i] = decoBush[from];
+        }
+        decoX = x;
+        decoY = y;
+        decoBush = bush;
+        decoHead = 0;
+    }
+
+    public void render(RenderQueue queue) {
+        render(queue, 1f);
+    }
+
+    // Queues the background with scroll offsets interpolated by alpha between the last two updates.
+    // Sky and lane bands never overlap and go on the BACKGROUND layer; decorations sit on
+    // top of the bands, so they share the WORLD layer with entities.
+    public void render(RenderQueue queue, float alpha) {
+        float lag = 1f - alpha;
+        float bgScroll = Math.max(0f, bgScrollX - lastBgMove * lag);
+        float floorScroll = Math.max(0f, floorScrollX - lastFloorMove * lag);
+
+        if (skyScroll != null) {
+            renderScrollingBands(queue, bgScroll, floorScroll);
+        } else {
+            renderTiledBands(queue, bgScroll, floorScroll);
+        }
+
+        // Decorations
+        float decoLag = lastFloorMove * lag;
+        for (int i = 0; i < decoCount; i++) {
+            int slot = (decoHead + i) % decoX.length;
+            TextureRegion region = decoBush[slot] ? decoBushRegion : decoGrassRegion;
+            queue.draw(RenderLayer.WORLD, region, decoX[slot] + decoLag, decoY[slot], DECO_SIZE, DECO_SIZE);
         }
     }
 
-    public void render(SpriteBatch batch) {
+    // One quad per band; U spans the band width in texture repeats and is offset by the scroll
+    private void renderScrollingBands(RenderQueue queue, float bgScroll, float floorScroll) {
+        setScroll(skyScroll, bgScroll, worldWidth);
+        setScroll(grassScroll, floorScroll, worldWidth);
+        setScroll(dirtScroll, floorScroll, DIRT_TILE_WIDTH);
+
+        queue.draw(RenderLayer.BACKGROUND, skyScroll, 0f, SKY_Y, worldWidth, this.worldHeight - SKY_Y);
+        for (float[] band : GRASS_BANDS) {
+            queue.draw(RenderLayer.BACKGROUND, grassScroll, 0f, band[0], worldWidth, band[1]);
+        }
+        for (float[] band : DIRT_BANDS) {
+            queue.draw(RenderLayer.BACKGROUND, dirtScroll, 0f, band[0], worldWidth, band[1]);
+        }
+    }
+
+    private void setScroll(TextureRegion region, float scroll, float repeatWidth) {
+        float u = (scroll % repeatWidth) / repeatWidth;
+        region.setRegion(u, 0f, u + worldWidth / repeatWidth, 1f);
+    }
+
+    private void renderTiledBands(RenderQueue queue, float bgScroll, float floorScroll) {
         float bgWidth = this.worldWidth;
 
         // Sky background with parallax
-        float bgOffset = bgScrollX % bgWidth;
-        batch.draw(bgTexture, -bgOffset, SKY_Y, bgWidth, this.worldHeight - SKY_Y);
-        batch.draw(bgTexture, bgWidth - bgOffset, SKY_Y, bgWidth, this.worldHeight - SKY_Y);
+        float bgOffset = bgScroll % bgWidth;
+        queue.draw(RenderLayer.BACKGROUND, bgRegion, -bgOffset, SKY_Y, bgWidth, this.worldHeight - SKY_Y);
+        queue.draw(RenderLayer.BACKGROUND, bgRegion, bgWidth - bgOffset, SKY_Y, bgWidth, this.worldHeight - SKY_Y);
 
         // Scrolling lane bands
-        float laneOffset = floorScrollX % bgWidth;
+        float laneOffset = floorScroll % bgWidth;
         for (float[] band : GRASS_BANDS) {
-            batch.draw(grassBgTexture, -laneOffset, band[0], bgWidth, band[1]);
-            batch.draw(grassBgTexture, bgWidth - laneOffset, band[0], bgWidth, band[1]);
+            queue.draw(RenderLayer.BACKGROUND, grassBgRegion, -laneOffset, band[0], bgWidth, band[1]);
+            queue.draw(RenderLayer.BACKGROUND, grassBgRegion, bgWidth - laneOffset, band[0], bgWidth, band[1]);
         }
-        float dirtTileW = 100f;
+        float dirtTileW = DIRT_TILE_WIDTH;
         int dirtTilesNeeded = (int) (this.worldWidth / dirtTileW) + 2;
-        float dirtOffset = floorScrollX % dirtTileW;
+        float dirtOffset = floorScroll % dirtTileW;
         for (float[] band : DIRT_BANDS) {
             for (int i = 0; i < dirtTilesNeeded; i++) {
                 float dx = i * dirtTileW - dirtOffset;
-                batch.draw(dirtBgTexture, dx, band[0], dirtTileW, band[1]);
+                queue.draw(RenderLayer.BACKGROUND, dirtBgRegion, dx, band[0], dirtTileW, band[1]);
             }
         }
-
-        // Decorations
-        for (int i = 0; i < decorations.size; i++) {
-            float[] d = decorations.get(i);
-            Texture tex = d[2] == 0f ? decoGrassTex : decoBushTex;
-            batch.draw(tex, d[0], d[1], 48, 48);
-        }
     }
 }
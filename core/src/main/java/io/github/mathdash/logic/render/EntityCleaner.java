@@ -30,11 +30,11 @@ public class EntityCleaner {
     public boolean cleanup(Array<Obstacle> activeObstacles, Array<AnswerBlock> activeAnswers) {
         for (int i = activeObstacles.size - 1; i >= 0; i--) {
             Obstacle obs = activeObstacles.get(i);
-            Transform t = obs.getComponent(Transform.class);
+            Transform t = obs.getComponent(Transform.TYPE);
             if (t == null || t.getX() < -100f || !obs.isActive()) {
                 collisionManager.removeObject(obs);
                 entityManager.removeEntity(obs);
-                movementManager.remove(obs.getComponent(ScrollMovement.class));
+                movementManager.remove(obs.getComponent(ScrollMovement.TYPE));
                 activeObstacles.removeIndex(i);
             }
         }
@@ -42,11 +42,11 @@ public class EntityCleaner {
         boolean allAnswersGone = true;
         for (int i = activeAnswers.size - 1; i >= 0; i--) {
             AnswerBlock block = activeAnswers.get(i);
-            Transform t = block.getComponent(Transform.class);
+            Transform t = block.getComponent(Transform.TYPE);
             if (t == null || t.getX() < -100f || !block.isActive()) {
                 collisionManager.removeObject(block);
                 entityManager.removeEntity(block);
-                movementManager.remove(block.getComponent(ScrollMovement.class));
+                movementManager.remove(block.getComponent(ScrollMovement.TYPE));
                 activeAnswers.removeIndex(i);
             } else {
                 allAnswersGone = false;
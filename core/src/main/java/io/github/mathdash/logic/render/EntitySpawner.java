@@ -40,6 +40,11 @@ public class EntitySpawner {
     private final Array<AnswerBlock> activeAnswers;
     private final Array<Obstacle> activeObstacles;
 
+    // Reused by every answer wave
+    private final int[] laneOrder = {0, 1, 2};
+    private final int[] answers = new int[3];
+    private final boolean[] isCorrect = {true, false, false};
+
     private float obstacleSpawnTimer = 0f;
     private float answerSpawnTimer = 0f;
     private boolean answersOnScreen = false;
@@ -85,7 +90,7 @@ public class EntitySpawner {
         for (int i = 0; i < activeAnswers.size; i++) {
             AnswerBlock block = activeAnswers.get(i);
             if (!block.isActive()) continue;
-            Transform bt = block.getComponent(Transform.class);
+            Transform bt = block.getComponent(Transform.TYPE);
             if (bt != null && Math.abs(bt.getX() - spawnX) < ANSWER_SAFE_DISTANCE) {
                 return;
             }
@@ -104,7 +109,7 @@ public class EntitySpawner {
         float y = Player.LANE_Y[lane];
 
         Obstacle obs = obstacleFactory.create(spawnX, y);
-        movementManager.add(obs.getComponent(ScrollMovement.class));
+        movementManager.add(obs.getComponent(ScrollMovement.TYPE));
         obs.setCollisionHandler(collisionDispatcher);
         obs.setScrollSpeed(scrollSpeed);
         entityManager.addEntity(obs);
@@ -117,20 +122,16 @@ public class EntitySpawner {
 
         float x = this.worldWidth + 50f;
 
-        int[] laneOrder = {0, 1, 2};
         shuffleLanes(laneOrder);
 
-        int[] answers = {
-            currentQuestion.getCorrectAnswer(),
-            currentQuestion.getWrongAnswer1(),
-            currentQuestion.getWrongAnswer2()
-        };
-        boolean[] isCorrect = {true, false, false};
+        answers[0] = currentQuestion.getCorrectAnswer();
+        answers[1] = currentQuestion.getWrongAnswer1();
+        answers[2] = currentQuestion.getWrongAnswer2();
 
         for (int i = 0; i < 3; i++) {
             float y = Player.LANE_Y[laneOrder[i]];
             AnswerBlock block = answerBlockFactory.create(x, y, answers[i], isCorrect[i]);
-            movementManager.add(block.getComponent(ScrollMovement.class));
+            movementManager.add(block.getComponent(ScrollMovement.TYPE));
             block.setCollisionHandler(collisionDispatcher);
             block.setScrollSpeed(scrollSpeed);
             entityManager.addEntity(block);
@@ -154,12 +155,27 @@ public class EntitySpawner {
             block.setActive(false);
             collisionManager.removeObject(block);
             entityManager.removeEntity(block);
-            movementManager.remove(block.getComponent(ScrollMovement.class));
+            movementManager.remove(block.getComponent(ScrollMovement.TYPE));
         }
         activeAnswers.clear();
         answersOnScreen = false;
     }
 
+    // Removes every obstacle and answer block and restarts both spawn timers.
+    public void reset() {
+        clearAnswerBlocks();
+        for (int i = activeObstacles.size - 1; i >= 0; i--) {
+            Obstacle obs = activeObstacles.get(i);
+            obs.setActive(false);
+            collisionManager.removeObject(obs);
+            entityManager.removeEntity(obs);
+            movementManager.remove(obs.getComponent(ScrollMovement.TYPE));
+        }
+        activeObstacles.clear();
+        obstacleSpawnTimer = 0f;
+        answerSpawnTimer = 0f;
+    }
+
     public void resetAnswerTimer() {
         answersOnScreen = false;
         answerSpawnTimer = 0f;
@@ -1,15 +1,16 @@
 package io.github.mathdash.logic.render;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
 
 import io.github.mathdash.engine.difficulty.DifficultyAdapter;
 import io.github.mathdash.engine.entity.Transform;
+import io.github.mathdash.engine.graphics.FontCache;
+import io.github.mathdash.engine.graphics.TextLabel;
 import io.github.mathdash.logic.component.SurgeComponent;
 import io.github.mathdash.logic.entity.AnswerBlock;
 import io.github.mathdash.logic.entity.Player;
@@ -20,85 +21,65 @@ import io.github.mathdash.logic.scene.GameScene;
 /**
  * HudRenderer - Renders the heads-up display: hearts, score, level,
  * question text, surge bar, and streak counter.
+ *
+ * All text goes through TextLabels, so glyphs are laid out only when a
+ * value or the question changes; answer blocks carry their own label,
+ * laid out when they spawn. The labels are drawn together inside one
+ * FontCache text block, so the batch binds the text shader once per frame.
  */
 public class HudRenderer {
 
-    private final Texture heartTexture;
-    private final Texture heartEmptyTexture;
-    private final Texture surgeBarBgTex;
-    private final Texture surgeBarFillTex;
-    private final Texture surgeTintTex;
-    private final BitmapFont font;
-    private final BitmapFont hudFont;
-    private final BitmapFont questionFont;
-    private final BitmapFont streakFont;
-    private final GlyphLayout glyphLayout;
-
-    public HudRenderer(Texture heartTexture, Texture heartEmptyTexture,
-                       Texture surgeBarBgTex, Texture surgeBarFillTex, Texture surgeTintTex,
-                       BitmapFont font, BitmapFont hudFont, BitmapFont questionFont,
-                       BitmapFont streakFont, GlyphLayout glyphLayout) {
-        this.heartTexture = heartTexture;
-        this.heartEmptyTexture = heartEmptyTexture;
-        this.surgeBarBgTex = surgeBarBgTex;
-        this.surgeBarFillTex = surgeBarFillTex;
-        this.surgeTintTex = surgeTintTex;
-        this.font = font;
-        this.hudFont = hudFont;
-        this.questionFont = questionFont;
-        this.streakFont = streakFont;
-        this.glyphLayout = glyphLayout;
+    private final TextureRegion heartRegion;
+    private final TextureRegion heartEmptyRegion;
+    private final TextureRegion surgeBarBgRegion;
+    private final TextureRegion surgeBarFillRegion;
+    private final TextureRegion surgeTintRegion;
+    private final FontCache fonts;
+
+    private final TextLabel scoreLabel;
+    private final TextLabel levelLabel;
+    private final TextLabel questionLabel;
+    private final TextLabel surgeLabel;
+    private final TextLabel surgingLabel;
+    private final TextLabel streakLabel;
+
+    public HudRenderer(TextureRegion heartRegion, TextureRegion heartEmptyRegion,
+                       TextureRegion surgeBarBgRegion, TextureRegion surgeBarFillRegion, TextureRegion surgeTintRegion,
+                       FontCache fonts, BitmapFont hudFont, BitmapFont questionFont, BitmapFont streakFont) {
+        this.heartRegion = heartRegion;
+        this.heartEmptyRegion = heartEmptyRegion;
+        this.surgeBarBgRegion = surgeBarBgRegion;
+        this.surgeBarFillRegion = surgeBarFillRegion;
+        this.surgeTintRegion = surgeTintRegion;
+        this.fonts = fonts;
+        this.scoreLabel = new TextLabel(hudFont, "Score: ", "");
+        this.levelLabel = new TextLabel(hudFont, "Level ", "");
+        this.questionLabel = new TextLabel(questionFont);
+        this.surgeLabel = new TextLabel(streakFont);
+        this.surgeLabel.setText("Surge");
+        this.surgingLabel = new TextLabel(streakFont);
+        this.surgingLabel.setText("SURGE!");
+        this.streakLabel = new TextLabel(streakFont, "", "x Streak!");
     }
 
     public void render(SpriteBatch batch, Player player, SurgeComponent surge,
                        DifficultyAdapter difficulty, MathQuestion currentQuestion,
-                       int score, int level, Array<AnswerBlock> activeAnswers) {
-
-        // Answer values on blocks
-        for (int i = 0; i < activeAnswers.size; i++) {
-            AnswerBlock block = activeAnswers.get(i);
-            if (!block.isActive()) continue;
-            Transform t = block.getComponent(Transform.class);
-            if (t == null) continue;
-            String text = String.valueOf(block.getAnswerValue());
-            glyphLayout.setText(font, text);
-            font.draw(batch, text,
-                t.getX() - glyphLayout.width / 2f,
-                t.getY() + glyphLayout.height / 2f);
-        }
+                       int score, int level, Array<AnswerBlock> activeAnswers, float alpha) {
+        // Sprites first, then all text under one shader bind; none of them overlap
+        float hudY = GameScene.WORLD_HEIGHT - 40f;
+        float barW = 200f, barH = 16f;
+        float barX = GameScene.WORLD_WIDTH / 2f - barW / 2f;
+        float barY = 15f;
 
         // Hearts
-        float hudY = GameScene.WORLD_HEIGHT - 40f;
         int lives = player != null ? player.getLives() : 0;
         for (int i = 0; i < 3; i++) {
-            Texture hTex = i < lives ? heartTexture : heartEmptyTexture;
-            batch.draw(hTex, 10 + i * 35, hudY, 30, 30);
-        }
-
-        // Score
-        String scoreText = "Score: " + score;
-        glyphLayout.setText(hudFont, scoreText);
-        hudFont.draw(batch, scoreText, GameScene.WORLD_WIDTH - glyphLayout.width - 20, hudY + 25);
-
-        // Level
-        String levelText = "Level " + level;
-        glyphLayout.setText(hudFont, levelText);
-        hudFont.draw(batch, levelText, GameScene.WORLD_WIDTH / 2f - glyphLayout.width / 2f, hudY + 25);
-
-        // Question
-        if (currentQuestion != null) {
-            String qText = currentQuestion.getQuestionText();
-            glyphLayout.setText(questionFont, qText);
-            questionFont.draw(batch, qText,
-                GameScene.WORLD_WIDTH / 2f - glyphLayout.width / 2f,
-                GameScene.WORLD_HEIGHT - 70);
+            TextureRegion heart = i < lives ? heartRegion : heartEmptyRegion;
+            batch.draw(heart, 10 + i * 35, hudY, 30, 30);
         }
 
         // Surge meter bar
-        float barW = 200f, barH = 16f;
-        float barX = GameScene.WORLD_WIDTH / 2f - barW / 2f;
-        float barY = 15f;
-        batch.draw(surgeBarBgTex, barX - 2, barY - 2, barW + 4, barH + 4);
+        batch.draw(surgeBarBgRegion, barX - 2, barY - 2, barW + 4, barH + 4);
 
         float fillW = barW * surge.getSurgeAmount();
         if (surge.isSurging()) {
@@ -107,30 +88,55 @@ public class HudRenderer {
         } else {
             batch.setColor(0.2f, 0.9f, 0.3f, 0.9f);
         }
-        batch.draw(surgeBarFillTex, barX, barY, fillW, barH);
+        batch.draw(surgeBarFillRegion, barX, barY, fillW, barH);
         batch.setColor(Color.WHITE);
 
+        fonts.beginText(batch);
+
+        // Answer values on blocks, at the same interpolated position as the block sprites
+        for (int i = 0; i < activeAnswers.size; i++) {
+            AnswerBlock block = activeAnswers.get(i);
+            if (!block.isActive()) continue;
+            Transform t = block.getComponent(Transform.TYPE);
+            TextLabel label = block.getLabel();
+            if (t == null || label == null) continue;
+            label.drawCentered(batch, t.getInterpolatedX(alpha),
+                t.getInterpolatedY(alpha) + label.getHeight() / 2f);
+        }
+
+        // Score
+        scoreLabel.setValue(score);
+        scoreLabel.draw(batch, GameScene.WORLD_WIDTH - scoreLabel.getWidth() - 20, hudY + 25);
+
+        // Level
+        levelLabel.setValue(level);
+        levelLabel.drawCentered(batch, GameScene.WORLD_WIDTH / 2f, hudY + 25);
+
+        // Question
+        if (currentQuestion != null) {
+            questionLabel.setText(currentQuestion.getQuestionText());
+            questionLabel.drawCentered(batch, GameScene.WORLD_WIDTH / 2f, GameScene.WORLD_HEIGHT - 70);
+        }
+
         // Surge label
-        String surgeLabel = surge.isSurging() ? "SURGE!" : "Surge";
-        glyphLayout.setText(streakFont, surgeLabel);
-        streakFont.draw(batch, surgeLabel,
-            barX + barW / 2f - glyphLayout.width / 2f,
-            barY + barH + glyphLayout.height + 4);
+        TextLabel label = surge.isSurging() ? surgingLabel : surgeLabel;
+        label.drawCentered(batch, barX + barW / 2f, barY + barH + label.getHeight() + 4);
 
         // Streak counter
-        if (difficulty.getCorrectStreak() >= 2) {
-            String streakText = difficulty.getCorrectStreak() + "x Streak!";
-            glyphLayout.setText(streakFont, streakText);
-            streakFont.draw(batch, streakText,
-                GameScene.WORLD_WIDTH / 2f - glyphLayout.width / 2f,
-                barY + barH + glyphLayout.height + 24);
+        int streak = difficulty.getCorrectStreak();
+        if (streak >= 2) {
+            streakLabel.setValue(streak);
+            streakLabel.drawCentered(batch, GameScene.WORLD_WIDTH / 2f,
+                barY + barH + streakLabel.getHeight() + 24);
         }
 
+        fonts.endText(batch);
+
         // Surge mode golden screen tint
         if (surge.isSurging()) {
-            float alpha = 0.1f + 0.05f * MathUtils.sin(surge.getSurgeProgress() * 15f);
-            batch.setColor(1f, 1f, 1f, alpha);
-            batch.draw(surgeTintTex, 0, 0, GameScene.WORLD_WIDTH, GameScene.WORLD_HEIGHT);
+            float tint = 0.1f + 0.05f * MathUtils.sin(surge.getSurgeProgress() * 15f);
+            batch.setColor(1f, 1f, 1f, tint);
+            batch.draw(surgeTintRegion, 0, 0, GameScene.WORLD_WIDTH, GameScene.WORLD_HEIGHT);
             batch.setColor(Color.WHITE);
         }
     }
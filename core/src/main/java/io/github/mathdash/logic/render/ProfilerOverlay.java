@@ -0,0 +1,108 @@
+package io.github.mathdash.logic.render;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import io.github.mathdash.engine.debug.FrameProfiler;
+
+/**
+ * ProfilerOverlay - Draws a FrameProfiler's rolling per-phase averages and
+ * maxima, plus entity/collidable counts, drawn and culled sprites, batch
+ * render calls and heap use, in the top-left corner of the screen.
+ *
+ * The text is rebuilt and laid out a few times per second into one reused
+ * StringBuilder and GlyphLayout, so the numbers stay readable and the
+ * overlay adds little to the frames it measures. Callers skip it entirely
+ * while the profiler is disabled.
+ */
+public class ProfilerOverlay {
+
+    private static final long REFRESH_NANOS = 250_000_000L;
+    private static final float BUDGET_MS = 1000f / 60f;
+    private static final float PADDING = 6f;
+
+    private final FrameProfiler profiler;
+    private final BitmapFont font;
+    private final TextureRegion panelRegion;
+    private final StringBuilder text = new StringBuilder(512);
+    private final GlyphLayout layout = new GlyphLayout();
+    private long lastRefresh;
+    private int lineCount;
+
+    public ProfilerOverlay(FrameProfiler profiler, BitmapFont font, TextureRegion panelRegion) {
+        this.profiler = profiler;
+        this.font = font;
+        this.panelRegion = panelRegion;
+    }
+
+    public void render(SpriteBatch batch, float worldHeight,
+                       int entityCount, int collidableCount,
+                       int spritesDrawn, int spritesCulled, int renderCalls) {
+        long now = System.nanoTime();
+        if (lineCount == 0 || now - lastRefresh >= REFRESH_NANOS) {
+            lastRefresh = now;
+            rebuildText(entityCount, collidableCount, spritesDrawn, spritesCulled, renderCalls);
+            layout.setText(font, text);
+        }
+
+        float lineHeight = font.getLineHeight();
+        float panelHeight = lineCount * lineHeight + PADDING * 2;
+        float top = worldHeight - 50f;
+        batch.draw(panelRegion, 4f, top - panelHeight, 250f, panelHeight);
+        font.draw(batch, layout, 4f + PADDING, top - PADDING);
+    }
+
+    private void rebuildText(int entityCount, int collidableCount,
+                             int spritesDrawn, int spritesCulled, int renderCalls) {
+        text.setLength(0);
+        lineCount = 0;
+
+        text.append("frame ");
+        appendMillis(profiler.getFrameAverageMillis());
+        text.append(" / ");
+        appendMillis(profiler.getFrameMaxMillis());
+        text.append(" ms");
+        if (profiler.getFrameMaxMillis() > BUDGET_MS) {
+            text.append("  OVER");
+        }
+        newLine();
+
+        for (int p = 0; p < profiler.getPhaseCount(); p++) {
+            text.append(profiler.getPhaseName(p)).append(' ');
+            appendMillis(profiler.getAverageMillis(p));
+            text.append(" / ");
+            appendMillis(profiler.getMaxMillis(p));
+            newLine();
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        long usedMb = (runtime.totalMemory() - runtime.freeMemory()) >> 20;
+        text.append("entities ").append(entityCount)
+            .append("  collidables ").append(collidableCount);
+        newLine();
+        text.append("sprites ").append(spritesDrawn)
+            .append("  culled ").append(spritesCulled);
+        newLine();
+        text.append("render calls ").append(renderCalls)
+            .append("  heap ").append(usedMb).append(" MB");
+        lineCount++;
+    }
+
+    private void newLine() {
+        text.append('\n');
+        lineCount++;
+    }
+
+    // Appends ms with two decimals without going through String.format
+    private void appendMillis(float millis) {
+        int hundredths = Math.round(millis * 100f);
+        text.append(hundredths / 100).append('.');
+        int fraction = hundredths % 100;
+        if (fraction < 10) {
+            text.append('0');
+        }
+        text.append(fraction);
+    }
+}
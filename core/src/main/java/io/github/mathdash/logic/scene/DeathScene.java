@@ -3,10 +3,9 @@ package io.github.mathdash.logic.scene;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
@@ -14,7 +13,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
@@ -25,6 +24,7 @@ import io.github.mathdash.engine.scene.Scene;
 import io.github.mathdash.engine.scene.SceneManager;
 import io.github.mathdash.engine.scene.StageManager;
 import io.github.mathdash.logic.util.FontGenerator;
+import io.github.mathdash.logic.util.GameAtlas;
 
 /**
  * DeathScene - Displayed when the player dies.
@@ -45,7 +45,7 @@ public class DeathScene extends Scene {
     private Viewport viewport;
     private StageManager stageManager;
     private Skin skin;
-    private Texture overlayTexture;
+    private TextureRegion overlayRegion;
     private FontGenerator fontGenerator;
     private int finalScore = 0;
     private int level = 1;
@@ -74,11 +74,7 @@ public class DeathScene extends Scene {
 
         stageManager = new StageManager();
 
-        Pixmap overlay = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        overlay.setColor(0.15f, 0, 0, 0.85f);
-        overlay.fill();
-        overlayTexture = new Texture(overlay);
-        overlay.dispose();
+        overlayRegion = GameAtlas.region(ServiceLocator.getAtlas(), GameAtlas.WHITE);
 
         createSkin();
     }
@@ -87,43 +83,24 @@ public class DeathScene extends Scene {
         skin = new Skin();
 
         BitmapFont skinFont = fontGenerator.create(24, Color.WHITE);
-        skin.add("default-font", skinFont);
-
-        Pixmap btnUp = new Pixmap(200, 50, Pixmap.Format.RGBA8888);
-        btnUp.setColor(new Color(0.7f, 0.2f, 0.2f, 1f));
-        btnUp.fill();
-        skin.add("btn-up", new Texture(btnUp));
-        btnUp.dispose();
-
-        Pixmap btnOver = new Pixmap(200, 50, Pixmap.Format.RGBA8888);
-        btnOver.setColor(new Color(0.9f, 0.3f, 0.3f, 1f));
-        btnOver.fill();
-        skin.add("btn-over", new Texture(btnOver));
-        btnOver.dispose();
-
-        Pixmap tryBtnUp = new Pixmap(200, 50, Pixmap.Format.RGBA8888);
-        tryBtnUp.setColor(new Color(0.2f, 0.6f, 0.3f, 1f));
-        tryBtnUp.fill();
-        skin.add("try-btn-up", new Texture(tryBtnUp));
-        tryBtnUp.dispose();
-
-        Pixmap tryBtnOver = new Pixmap(200, 50, Pixmap.Format.RGBA8888);
-        tryBtnOver.setColor(new Color(0.3f, 0.8f, 0.4f, 1f));
-        tryBtnOver.fill();
-        skin.add("try-btn-over", new Texture(tryBtnOver));
-        tryBtnOver.dispose();
+
+        TextureAtlas atlas = ServiceLocator.getAtlas();
+        skin.add("btn-up", GameAtlas.solid(atlas, new Color(0.7f, 0.2f, 0.2f, 1f), 200, 50), Drawable.class);
+        skin.add("btn-over", GameAtlas.solid(atlas, new Color(0.9f, 0.3f, 0.3f, 1f), 200, 50), Drawable.class);
+        skin.add("try-btn-up", GameAtlas.solid(atlas, new Color(0.2f, 0.6f, 0.3f, 1f), 200, 50), Drawable.class);
+        skin.add("try-btn-over", GameAtlas.solid(atlas, new Color(0.3f, 0.8f, 0.4f, 1f), 200, 50), Drawable.class);
 
         TextButton.TextButtonStyle tryStyle = new TextButton.TextButtonStyle();
-        tryStyle.up = new TextureRegionDrawable(new TextureRegion(skin.get("try-btn-up", Texture.class)));
-        tryStyle.over = new TextureRegionDrawable(new TextureRegion(skin.get("try-btn-over", Texture.class)));
+        tryStyle.up = skin.getDrawable("try-btn-up");
+        tryStyle.over = skin.getDrawable("try-btn-over");
         tryStyle.font = skinFont;
         tryStyle.fontColor = Color.WHITE;
         tryStyle.overFontColor = Color.YELLOW;
         skin.add("try-again", tryStyle);
 
         TextButton.TextButtonStyle menuStyle = new TextButton.TextButtonStyle();
-        menuStyle.up = new TextureRegionDrawable(new TextureRegion(skin.get("btn-up", Texture.class)));
-        menuStyle.over = new TextureRegionDrawable(new TextureRegion(skin.get("btn-over", Texture.class)));
+        menuStyle.up = skin.getDrawable("btn-up");
+        menuStyle.over = skin.getDrawable("btn-over");
         menuStyle.font = skinFont;
         menuStyle.fontColor = Color.WHITE;
         menuStyle.overFontColor = Color.YELLOW;
@@ -214,7 +191,9 @@ public class DeathScene extends Scene {
         camera.update();
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        batch.draw(overlayTexture, 0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+        batch.setColor(0.15f, 0f, 0f, 0.85f);
+        batch.draw(overlayRegion, 0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+        batch.setColor(Color.WHITE);
         batch.end();
         stageManager.render();
     }
@@ -222,6 +201,7 @@ public class DeathScene extends Scene {
     @Override
     protected void onResize(int width, int height) {
         viewport.update(width, height, true);
+        ServiceLocator.getFonts().setViewport(viewport);
         stageManager.resize(width, height);
     }
 
@@ -248,9 +228,6 @@ public class DeathScene extends Scene {
         if (skin != null) {
             skin.dispose();
         }
-        if (overlayTexture != null) {
-            overlayTexture.dispose();
-        }
         if (fontGenerator != null) {
             fontGenerator.dispose();
         }
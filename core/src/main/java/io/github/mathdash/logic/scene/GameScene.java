@@ -3,71 +3,61 @@ package io.github.mathdash.logic.scene;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 import io.github.mathdash.engine.ServiceLocator;
-import io.github.mathdash.engine.collision.CollisionManager;
-import io.github.mathdash.engine.difficulty.DifficultyAdapter;
-import io.github.mathdash.engine.entity.EntityManager;
+import io.github.mathdash.engine.debug.FrameProfiler;
+import io.github.mathdash.engine.debug.Trace;
 import io.github.mathdash.engine.entity.Renderable;
+import io.github.mathdash.engine.graphics.RenderQueue;
 import io.github.mathdash.engine.inputoutput.IAudioSystem;
 import io.github.mathdash.engine.inputoutput.IInputSystem;
 import io.github.mathdash.engine.inputoutput.InputAction;
-import io.github.mathdash.engine.movement.MovementManager;
 import io.github.mathdash.engine.scene.Scene;
 import io.github.mathdash.engine.scene.SceneManager;
 import io.github.mathdash.engine.state.GameStateManager;
-import io.github.mathdash.logic.collision.CollisionDispatcher;
-import io.github.mathdash.logic.component.SurgeComponent;
-import io.github.mathdash.logic.difficulty.MathDashDifficulty;
-import io.github.mathdash.logic.entity.AnswerBlock;
 import io.github.mathdash.logic.entity.AnswerBlockFactory;
-import io.github.mathdash.logic.entity.Obstacle;
 import io.github.mathdash.logic.entity.ObstacleFactory;
-import io.github.mathdash.logic.entity.Player;
 import io.github.mathdash.logic.entity.PlayerFactory;
-import io.github.mathdash.logic.math.MathQuestion;
-import io.github.mathdash.logic.math.MathQuestionGenerator;
 import io.github.mathdash.logic.render.BackgroundRenderer;
-import io.github.mathdash.logic.render.EntityCleaner;
-import io.github.mathdash.logic.render.EntitySpawner;
 import io.github.mathdash.logic.render.HudRenderer;
+import io.github.mathdash.logic.render.ProfilerOverlay;
+import io.github.mathdash.logic.simulation.GamePhases;
+import io.github.mathdash.logic.simulation.GameSimulation;
+import io.github.mathdash.logic.simulation.SimulationBot;
 import io.github.mathdash.logic.state.GameOverState;
 import io.github.mathdash.logic.state.PlayingState;
 import io.github.mathdash.logic.util.FontGenerator;
+import io.github.mathdash.logic.util.GameAtlas;
 /**
  * GameScene - The main gameplay scene for MathDash.
  *
- * Delegates rendering and entity management to:
+ * Gameplay itself runs in a GL-free GameSimulation. The scene adds what
+ * needs a GL context or the user:
+ *   - Sprites from the shared GameAtlas and fonts, handed to the simulation's
+ *     factories as Renderables
+ *   - Input (pause, mute, lane switching) and scene flow
  *   - BackgroundRenderer: parallax sky, lane bands, decorations
  *   - HudRenderer: hearts, score, question, surge bar
- *   - EntitySpawner: obstacle and answer block spawning
- *   - EntityCleaner: off-screen entity removal
+ *   - ProfilerOverlay: per-phase frame timings, toggled by TOGGLE_DEBUG
  */
-public class GameScene extends Scene
-    implements CollisionDispatcher.GameEventListener, PlayingState.PlayingCallback {
+public class GameScene extends Scene implements PlayingState.PlayingCallback {
 
-    public static final float WORLD_WIDTH = 800f;
-    public static final float WORLD_HEIGHT = 600f;
-
-    private static final String ASSET_BASE = "kenney_new-platformer-pack-1.1/";
-    private static final float BASE_SCROLL_SPEED = 200f;
+    public static final float WORLD_WIDTH = GameSimulation.WORLD_WIDTH;
+    public static final float WORLD_HEIGHT = GameSimulation.WORLD_HEIGHT;
+    private static final String BAND_TEXTURE_BASE = "kenney_new-platformer-pack-1.1/Sprites/Backgrounds/Default/";
 
     private final SceneManager sceneManager;
     private final int level;
 
-    // Engine managers
-    private EntityManager entityManager;
-    private CollisionManager collisionManager;
-    private MovementManager movementManager;
+    // Gameplay core and scene-level managers
+    private GameSimulation simulation;
     private IInputSystem inputManager;
     private GameStateManager gameStateManager;
 
@@ -75,53 +65,42 @@ public class GameScene extends Scene
     private OrthographicCamera camera;
     private Viewport viewport;
 
-    // Textures
-    private Texture bgTexture, grassBgTexture, dirtBgTexture;
-    private Texture heartTexture, heartEmptyTexture;
-    private Texture obstacleTexSaw, obstacleTexSpike, obstacleTexSlime;
-    private Texture answerBlockTex;
-    private Texture playerWalkA, playerWalkB, playerIdle, playerHit;
-    private Texture decoGrassTex, decoBushTex;
-    private Texture surgeBarBgTex, surgeBarFillTex, surgeTintTex;
+    // Sprites: regions of the shared atlas, owned by GameMaster
+    private TextureRegion heartRegion, heartEmptyRegion;
+    private TextureRegion obstacleSaw, obstacleSpike, obstacleSlime;
+    private TextureRegion answerBlockRegion;
+    private TextureRegion playerWalkA, playerWalkB, playerIdle, playerHit;
+    private TextureRegion decoGrassRegion, decoBushRegion;
+    private TextureRegion surgeBarBgRegion, surgeBarFillRegion, surgeTintRegion;
+    // Repeat-wrapped band textures for the one-quad-per-band scrolling background
+    private Texture skyScrollTex, grassScrollTex, dirtScrollTex;
 
     // Fonts
     private BitmapFont font, hudFont, questionFont, streakFont;
-    private GlyphLayout glyphLayout;
-
-    // Factories
-    private PlayerFactory playerFactory;
-    private ObstacleFactory obstacleFactory;
-    private AnswerBlockFactory answerBlockFactory;
-
-    // Game state
-    private Player player;
-    private CollisionDispatcher collisionDispatcher;
-    private MathQuestionGenerator questionGenerator;
-    private MathQuestion currentQuestion;
-    private DifficultyAdapter difficulty;
-    private SurgeComponent surgeComponent;
-    private FontGenerator fontGenerator;
-    private float scrollSpeed;
-    private int score = 0;
 
-    // Track active entities
-    private Array<AnswerBlock> activeAnswers = new Array<>();
-    private Array<Obstacle> activeObstacles = new Array<>();
+    private FontGenerator fontGenerator;
 
-    // Track surge state for updates
-    private boolean previousSurgingState = false;
+    // Optional scripted player (benchmark runs); null for normal play
+    private SimulationBot autopilot;
+    // Deaths a scripted run restarted from in place
+    private int restarts;
 
     // Extracted helpers
     private BackgroundRenderer backgroundRenderer;
     private HudRenderer hudRenderer;
-    private EntitySpawner entitySpawner;
-    private EntityCleaner entityCleaner;
+    // Background and entity sprites, sorted by layer and texture before submission
+    private final RenderQueue renderQueue = new RenderQueue();
+
+    // Debug profiler; the overlay and its font are created on first toggle
+    private FrameProfiler profiler;
+    private ProfilerOverlay profilerOverlay;
+    private BitmapFont debugFont;
+    private int lastRenderCalls;
 
     public GameScene(SceneManager sceneManager, int level) {
         super("game");
         this.sceneManager = sceneManager;
         this.level = level;
-        this.scrollSpeed = BASE_SCROLL_SPEED;
     }
 
     @Override
@@ -132,95 +111,81 @@ public class GameScene extends Scene
         camera.update();
 
         loadTextures();
-        setupManagers();
         inputManager = ServiceLocator.getInput();
-        setupFactories();
+        setupSimulation();
         setupHelpers();
         setupStates();
-        spawnPlayer();
-        generateNewQuestion();
-    }
-
-    private Texture loadTex(String path) {
-        Texture tex = new Texture(Gdx.files.internal(path));
-        tex.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        return tex;
     }
 
     private void loadTextures() {
         fontGenerator = new FontGenerator();
-        bgTexture = loadTex(ASSET_BASE + "Sprites/Backgrounds/Default/background_color_trees.png");
-        bgTexture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
-        grassBgTexture = loadTex(ASSET_BASE + "Sprites/Backgrounds/Default/background_solid_grass.png");
-        grassBgTexture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
-        dirtBgTexture = loadTex(ASSET_BASE + "Sprites/Backgrounds/Default/cobble.png");
-        dirtBgTexture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
-        heartTexture = loadTex(ASSET_BASE + "Sprites/Tiles/Default/hud_heart.png");
-        heartEmptyTexture = loadTex(ASSET_BASE + "Sprites/Tiles/Default/hud_heart_empty.png");
+        TextureAtlas atlas = ServiceLocator.getAtlas();
+        heartRegion = GameAtlas.region(atlas, GameAtlas.HEART);
+        heartEmptyRegion = GameAtlas.region(atlas, GameAtlas.HEART_EMPTY);
 
-        obstacleTexSaw = loadTex(ASSET_BASE + "Sprites/Enemies/Default/saw_a.png");
-        obstacleTexSpike = loadTex(ASSET_BASE + "Sprites/Tiles/Default/block_spikes.png");
-        obstacleTexSlime = loadTex(ASSET_BASE + "Sprites/Enemies/Default/slime_spike_rest.png");
+        obstacleSaw = GameAtlas.region(atlas, GameAtlas.SAW);
+        obstacleSpike = GameAtlas.region(atlas, GameAtlas.SPIKES);
+        obstacleSlime = GameAtlas.region(atlas, GameAtlas.SLIME);
 
-        answerBlockTex = loadTex(ASSET_BASE + "Sprites/Tiles/Default/block_green.png");
+        answerBlockRegion = GameAtlas.region(atlas, GameAtlas.ANSWER_BLOCK);
 
-        playerWalkA = loadTex(ASSET_BASE + "Sprites/Characters/Default/character_green_walk_a.png");
-        playerWalkB = loadTex(ASSET_BASE + "Sprites/Characters/Default/character_green_walk_b.png");
-        playerIdle = loadTex(ASSET_BASE + "Sprites/Characters/Default/character_green_idle.png");
-        playerHit = loadTex(ASSET_BASE + "Sprites/Characters/Default/character_green_hit.png");
+        playerWalkA = GameAtlas.region(atlas, GameAtlas.PLAYER_WALK_A);
+        playerWalkB = GameAtlas.region(atlas, GameAtlas.PLAYER_WALK_B);
+        playerIdle = GameAtlas.region(atlas, GameAtlas.PLAYER_IDLE);
+        playerHit = GameAtlas.region(atlas, GameAtlas.PLAYER_HIT);
 
-        decoGrassTex = loadTex(ASSET_BASE + "Sprites/Tiles/Default/grass.png");
-        decoBushTex = loadTex(ASSET_BASE + "Sprites/Tiles/Default/bush.png");
+        decoGrassRegion = GameAtlas.region(atlas, GameAtlas.DECO_GRASS);
+        decoBushRegion = GameAtlas.region(atlas, GameAtlas.DECO_BUSH);
 
         font = fontGenerator.create(24, Color.WHITE);
         hudFont = fontGenerator.create(24, Color.BLACK);
         questionFont = fontGenerator.create(32, Color.YELLOW, Color.DARK_GRAY, 1f);
         streakFont = fontGenerator.create(20, Color.ORANGE, Color.DARK_GRAY, 1f);
-        glyphLayout = new GlyphLayout();
 
-        surgeBarBgTex = createPixmapTexture(0.2f, 0.2f, 0.2f, 0.7f);
-        surgeBarFillTex = createPixmapTexture(0.2f, 0.9f, 0.3f, 0.9f);
-        surgeTintTex = createPixmapTexture(1f, 0.85f, 0f, 0.12f);
-    }
+        surgeBarBgRegion = GameAtlas.region(atlas, GameAtlas.SURGE_BAR_BG);
+        surgeBarFillRegion = GameAtlas.region(atlas, GameAtlas.SURGE_BAR_FILL);
+        surgeTintRegion = GameAtlas.region(atlas, GameAtlas.SURGE_TINT);
 
-    private Texture createPixmapTexture(float r, float g, float b, float a) {
-        Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        pm.setColor(r, g, b, a);
-        pm.fill();
-        Texture tex = new Texture(pm);
-        pm.dispose();
-        return tex;
+        // Atlas regions cannot wrap, so the scrolling bands get standalone textures
+        skyScrollTex = loadBandTexture("background_color_trees.png");
+        grassScrollTex = loadBandTexture("background_solid_grass.png");
+        dirtScrollTex = loadBandTexture("cobble.png");
     }
 
-    private void setupManagers() {
-        entityManager = new EntityManager();
-        collisionManager = new CollisionManager();
-        movementManager = new MovementManager();
-        difficulty = new MathDashDifficulty();
-        surgeComponent = new SurgeComponent();
+    private Texture loadBandTexture(String name) {
+        Texture texture = new Texture(Gdx.files.internal(BAND_TEXTURE_BASE + name));
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        return texture;
     }
 
-    private void setupFactories() {
-        Renderable renderWalkA = new Renderable(new TextureRegion(playerWalkA), 48, 48);
-        Renderable renderWalkB = new Renderable(new TextureRegion(playerWalkB), 48, 48);
-        Renderable renderIdle = new Renderable(new TextureRegion(playerIdle),  48, 48);
-        Renderable renderHit = new Renderable(new TextureRegion(playerHit),   48, 48);
-        Renderable renderSaw = new Renderable(new TextureRegion(obstacleTexSaw),   48, 48);
-        Renderable renderSpike = new Renderable(new TextureRegion(obstacleTexSpike), 48, 48);
-        Renderable renderSlime = new Renderable(new TextureRegion(obstacleTexSlime), 48, 48);
-        Renderable renderAnswerBlock = new Renderable(new TextureRegion(answerBlockTex), 48, 48);
-
-        playerFactory = new PlayerFactory(renderWalkA, renderWalkB, renderIdle, renderHit);
-        obstacleFactory = new ObstacleFactory(scrollSpeed, renderSaw, renderSpike, renderSlime);
-        answerBlockFactory = new AnswerBlockFactory(renderAnswerBlock, scrollSpeed);
+    private void setupSimulation() {
+        Renderable renderWalkA = new Renderable(playerWalkA, 48, 48);
+        Renderable renderWalkB = new Renderable(playerWalkB, 48, 48);
+        Renderable renderIdle = new Renderable(playerIdle,  48, 48);
+        Renderable renderHit = new Renderable(playerHit,   48, 48);
+        Renderable renderSaw = new Renderable(obstacleSaw,   48, 48);
+        Renderable renderSpike = new Renderable(obstacleSpike, 48, 48);
+        Renderable renderSlime = new Renderable(obstacleSlime, 48, 48);
+        Renderable renderAnswerBlock = new Renderable(answerBlockRegion, 48, 48);
+
+        float scrollSpeed = GameSimulation.BASE_SCROLL_SPEED;
+        PlayerFactory playerFactory = new PlayerFactory(renderWalkA, renderWalkB, renderIdle, renderHit);
+        ObstacleFactory obstacleFactory = new ObstacleFactory(scrollSpeed, renderSaw, renderSpike, renderSlime);
+        AnswerBlockFactory answerBlockFactory = new AnswerBlockFactory(renderAnswerBlock, scrollSpeed, font);
+
+        simulation = new GameSimulation(level, playerFactory, obstacleFactory, answerBlockFactory,
+            ServiceLocator.getAudio());
+        profiler = simulation.getProfiler();
     }
 
     private void setupHelpers() {
-        backgroundRenderer = new BackgroundRenderer(WORLD_WIDTH, WORLD_HEIGHT, bgTexture, grassBgTexture, dirtBgTexture,
-            decoGrassTex, decoBushTex);
-        hudRenderer = new HudRenderer(heartTexture, heartEmptyTexture,
-            surgeBarBgTex, surgeBarFillTex, surgeTintTex,
-            font, hudFont, questionFont, streakFont, glyphLayout);
+        // Always scrolling, so the tiled-mode band regions are not needed
+        backgroundRenderer = new BackgroundRenderer(WORLD_WIDTH, WORLD_HEIGHT, null, null, null,
+            decoGrassRegion, decoBushRegion);
+        backgroundRenderer.setScrollingTextures(skyScrollTex, grassScrollTex, dirtScrollTex);
+        hudRenderer = new HudRenderer(heartRegion, heartEmptyRegion,
+            surgeBarBgRegion, surgeBarFillRegion, surgeTintRegion,
+            ServiceLocator.getFonts(), hudFont, questionFont, streakFont);
     }
 
     private void setupStates() {
@@ -230,32 +195,6 @@ public class GameScene extends Scene
         gameStateManager.setState("playing");
     }
 
-    private void spawnPlayer() {
-        IAudioSystem audio = ServiceLocator.getAudio();
-        player = playerFactory.create(120f, Player.LANE_Y[0]);
-
-        // Attach SurgeComponent to Player entity for ECS consistency
-        player.addComponent(surgeComponent);
-
-        collisionDispatcher = new CollisionDispatcher(audio, this);
-        player.setCollisionHandler(collisionDispatcher);
-
-        entityManager.addEntity(player);
-        collisionManager.addObject(player);
-
-        // Create spawner and cleaner after player (needs collisionDispatcher)
-        entitySpawner = new EntitySpawner(WORLD_WIDTH, obstacleFactory, answerBlockFactory,
-            entityManager, collisionManager, movementManager, collisionDispatcher,
-            activeAnswers, activeObstacles);
-        entityCleaner = new EntityCleaner(collisionManager, entityManager, movementManager);
-    }
-
-    private void generateNewQuestion() {
-        questionGenerator = new MathQuestionGenerator(level);
-        currentQuestion = questionGenerator.generate();
-        entitySpawner.resetAnswerTimer();
-    }
-
     // ---- Scene lifecycle ----
 
     @Override
@@ -266,7 +205,6 @@ public class GameScene extends Scene
     @Override
     public void onPlayingUpdate(float deltaTime) {
         IAudioSystem audio = ServiceLocator.getAudio();
-        inputManager.update();
 
         // Pause
         if (inputManager.isActionTriggered(InputAction.TOGGLE_PAUSE)) {
@@ -281,43 +219,42 @@ public class GameScene extends Scene
             }
         }
 
+        // Profiler overlay toggle
+        if (inputManager.isActionTriggered(InputAction.TOGGLE_DEBUG)) {
+            toggleProfiler();
+        }
+
         // Player lane switching
         if (inputManager.isActionTriggered(InputAction.JUMP)) {
-            player.switchLane(1);
+            simulation.switchLane(1);
             if (audio != null) {
                 audio.playSound("jump");
             }
         }
         if (inputManager.isActionTriggered(InputAction.CONFIRM)) {
-            player.switchLane(-1);
+            simulation.switchLane(-1);
             if (audio != null) {
                 audio.playSound("jump");
             }
         }
 
-        // Update game systems
-        collisionDispatcher.update(deltaTime);
-        entityManager.update(deltaTime);
-        collisionManager.checkCollisions();
-
-        // Apply adaptive difficulty + surge speed
-        scrollSpeed = BASE_SCROLL_SPEED * difficulty.getSpeedMultiplier()
-            * surgeComponent.getSpeedBonus();
-
-        // Detect surge state changes and update entity speeds
-        boolean currentSurgingState = surgeComponent.isSurging();
-        if (currentSurgingState != previousSurgingState) {
-            previousSurgingState = currentSurgingState;
-            updateScrollSpeeds();
+        if (autopilot != null) {
+            autopilot.act(simulation);
         }
 
-        // Delegate to helpers
-        backgroundRenderer.update(deltaTime, scrollSpeed);
-        entitySpawner.update(deltaTime, scrollSpeed, currentQuestion);
-
-        boolean allAnswersGone = entityCleaner.cleanup(activeObstacles, activeAnswers);
-        if (entitySpawner.isAnswersOnScreen() && allAnswersGone) {
-            generateNewQuestion();
+        // Advance gameplay, then the presentation-only background
+        simulation.step(deltaTime);
+        backgroundRenderer.update(deltaTime, simulation.getScrollSpeed());
+
+        if (simulation.isPlayerDead()) {
+            Trace.instant("player died");
+            if (autopilot != null) {
+                // Scripted runs keep going without the death screen or a scene reload
+                simulation.reset();
+                restarts++;
+            } else {
+                gameStateManager.setState("gameover");
+            }
         }
     }
 
@@ -325,83 +262,72 @@ public class GameScene extends Scene
 
     @Override
     public void render(SpriteBatch batch) {
+        render(batch, 1f);
+    }
+
+    @Override
+    public void render(SpriteBatch batch, float alpha) {
         camera.update();
         batch.setProjectionMatrix(camera.combined);
+        renderQueue.setView(camera);
         batch.begin();
 
-        backgroundRenderer.render(batch);
-        entityManager.render(batch);
-        hudRenderer.render(batch, player, surgeComponent, difficulty,
-            currentQuestion, score, level, activeAnswers);
+        // Timings cover draw submission; the GPU work is flushed at batch.end()
+        profiler.begin(GamePhases.BACKGROUND_RENDER);
+        backgroundRenderer.render(renderQueue, alpha);
+        profiler.end(GamePhases.BACKGROUND_RENDER);
+
+        // Entity timing includes sorting and submitting the whole queue
+        profiler.begin(GamePhases.ENTITY_RENDER);
+        simulation.getEntityManager().render(renderQueue, alpha);
+        renderQueue.flush(batch);
+        profiler.end(GamePhases.ENTITY_RENDER);
+
+        profiler.begin(GamePhases.HUD_RENDER);
+        hudRenderer.render(batch, simulation.getPlayer(), simulation.getSurgeComponent(),
+            simulation.getDifficulty(), simulation.getCurrentQuestion(), simulation.getScore(),
+            level, simulation.getActiveAnswers(), alpha);
+        profiler.end(GamePhases.HUD_RENDER);
+
+        if (profiler.isEnabled()) {
+            // Render calls of the previous frame; this one is still being batched
+            profilerOverlay.render(batch, WORLD_HEIGHT,
+                simulation.getEntityManager().getEntityCount(),
+                simulation.getCollisionManager().getCollidables().size,
+                renderQueue.getDrawnCount(), renderQueue.getCulledCount(),
+                lastRenderCalls);
+        }
 
         batch.end();
-    }
-
-    @Override
-    protected void onResize(int width, int height) {
-        viewport.update(width, height, true);
-    }
 
-    // ---- CollisionDispatcher.GameEventListener callbacks ----
-
-    @Override
-    public void onHealthChanged(int newHealth) { }
-
-    private void updateScrollSpeeds() {
-        float newSpeed = BASE_SCROLL_SPEED * difficulty.getSpeedMultiplier()
-            * surgeComponent.getSpeedBonus();
-        
-        // Update factories for future spawns
-        obstacleFactory.setScrollSpeed(newSpeed);
-        answerBlockFactory.setScrollSpeed(newSpeed);
-        
-        // Update all existing entities on screen
-        for (Obstacle obs : activeObstacles) {
-            obs.setScrollSpeed(newSpeed);
-        }
-        for (AnswerBlock block : activeAnswers) {
-            block.setScrollSpeed(newSpeed);
+        if (profiler.isEnabled()) {
+            lastRenderCalls = batch.renderCalls;
+            profiler.endFrame();
         }
     }
 
-    @Override
-    public void onObstacleHit() {
-        difficulty.onObstacleHit();
-        surgeComponent.resetSurge();
-        updateScrollSpeeds();
-    }
-
-    @Override
-    public void onPlayerDeath() {
-        gameStateManager.setState("gameover");
-    }
-
-    @Override
-    public void onCorrectAnswer() {
-        score++;
-        difficulty.onCorrect();
-        surgeComponent.addSurge();
-
-        updateScrollSpeeds();
-        entitySpawner.clearAnswerBlocks();
-        generateNewQuestion();
+    private void toggleProfiler() {
+        if (profilerOverlay == null) {
+            debugFont = fontGenerator.create(14, Color.WHITE);
+            profilerOverlay = new ProfilerOverlay(profiler, debugFont, surgeBarBgRegion);
+        }
+        profiler.toggle();
     }
 
     @Override
-    public void onWrongAnswer() {
-        difficulty.onWrong();
-        surgeComponent.resetSurge();
-
-        updateScrollSpeeds();
-        entitySpawner.clearAnswerBlocks();
-        generateNewQuestion();
+    protected void onResize(int width, int height) {
+        viewport.update(width, height, true);
+        ServiceLocator.getFonts().setViewport(viewport);
     }
 
     private void handleGameOver() {
-        saveHighScore();
+        // Scripted runs must not overwrite the player's high scores
+        if (autopilot == null) {
+            saveHighScore();
+        }
         Scene deathSceneRef = sceneManager.getScene("death");
         if (deathSceneRef instanceof DeathScene) {
-            ((DeathScene) deathSceneRef).setFinalScore(score);
+            ((DeathScene) deathSceneRef).setFinalScore(getScore());
             ((DeathScene) deathSceneRef).setLevel(level);
         }
         sceneManager.setScene("death");
@@ -410,6 +336,7 @@ public class GameScene extends Scene
     private void saveHighScore() {
         com.badlogic.gdx.Preferences prefs = Gdx.app.getPreferences("MathDash");
         String key = "highscore_level_" + level;
+        int score = getScore();
         int current = prefs.getInteger(key, 0);
         if (score > current) {
             prefs.putInteger(key, score);
@@ -417,8 +344,19 @@ public class GameScene extends Scene
         }
     }
 
+    // Lets a bot steer the player alongside (or instead of) keyboard input.
+    // With a bot the level restarts in place on death instead of ending.
+    public void setAutopilot(SimulationBot autopilot) {
+        this.autopilot = autopilot;
+    }
+
+    // Number of deaths the autopilot's run has restarted from.
+    public int getRestartCount() {
+        return restarts;
+    }
+
     public int getScore() { 
-        return score; 
+        return simulation != null ? simulation.getScore() : 0; 
     }
     public int getLevel() { 
         return level; 
@@ -428,59 +366,32 @@ public class GameScene extends Scene
 
     @Override
     protected void onUnload() {
-        if (entityManager != null) {
-            entityManager.dispose();
-        }
-        if (collisionManager != null) {
-            collisionManager.clear();
+        if (simulation != null) {
+            simulation.dispose();
         }
 
-        disposeTexture(bgTexture);
-        disposeTexture(grassBgTexture);
-        disposeTexture(dirtBgTexture);
-        disposeTexture(decoGrassTex);
-        disposeTexture(decoBushTex);
-        disposeTexture(heartTexture);
-        disposeTexture(heartEmptyTexture);
-        disposeTexture(obstacleTexSaw);
-        disposeTexture(obstacleTexSpike);
-        disposeTexture(obstacleTexSlime);
-        disposeTexture(answerBlockTex);
-        disposeTexture(playerWalkA);
-        disposeTexture(playerWalkB);
-        disposeTexture(playerIdle);
-        disposeTexture(playerHit);
-        if (font != null) {
-            font.dispose();
-        }
-        if (hudFont != null) {
-            hudFont.dispose();
+        // Sprites belong to the shared atlas; only band textures and fonts are owned here
+        if (skyScrollTex != null) {
+            skyScrollTex.dispose();
         }
-        if (questionFont != null) {
-            questionFont.dispose();
+        if (grassScrollTex != null) {
+            grassScrollTex.dispose();
         }
-        if (streakFont != null) {
-            streakFont.dispose();
+        if (dirtScrollTex != null) {
+            dirtScrollTex.dispose();
         }
+        // Fonts are shared through the FontCache; this hands them back rather than disposing them
         if (fontGenerator != null) {
             fontGenerator.dispose();
         }
-        disposeTexture(surgeBarBgTex);
-        disposeTexture(surgeBarFillTex);
-        disposeTexture(surgeTintTex);
-    }
-
-    private void disposeTexture(Texture tex) {
-        if (tex != null) {
-            tex.dispose();
-        }
     }
 
     @Override
     protected void onShow() {
         viewport.update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
-        if (movementManager != null) {
-            movementManager.unfreezeAll();
+        ServiceLocator.getFonts().setViewport(viewport);
+        if (simulation != null) {
+            simulation.setMovementFrozen(false);
         }
         if (gameStateManager != null && !"playing".equals(gameStateManager.getCurrentStateName())) {
             if (!"gameover".equals(gameStateManager.getCurrentStateName())) {
@@ -491,8 +402,8 @@ public class GameScene extends Scene
 
     @Override
     protected void onHide() {
-        if (movementManager != null) {
-            movementManager.freezeAll();
+        if (simulation != null) {
+            simulation.setMovementFrozen(true);
         }
     }
 }
\ No newline at end of file
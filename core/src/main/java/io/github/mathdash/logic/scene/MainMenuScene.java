@@ -3,10 +3,9 @@ package io.github.mathdash.logic.scene;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
@@ -20,6 +19,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Window;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.FitViewport;
@@ -30,6 +30,7 @@ import io.github.mathdash.engine.inputoutput.IAudioSystem;
 import io.github.mathdash.engine.scene.Scene;
 import io.github.mathdash.engine.scene.SceneManager;
 import io.github.mathdash.logic.util.FontGenerator;
+import io.github.mathdash.logic.util.GameAtlas;
 
 /**
  * MainMenuScene - Main menu with level select, volume/mute controls,
@@ -40,7 +41,6 @@ public class MainMenuScene extends Scene {
 
     private static final float WORLD_WIDTH = 800f;
     private static final float WORLD_HEIGHT = 600f;
-    private static final String ASSET_BASE = "kenney_new-platformer-pack-1.1/";
 
     private final SceneManager sceneManager;
     private final LevelSelectCallback callback;
@@ -49,10 +49,11 @@ public class MainMenuScene extends Scene {
     private Viewport viewport;
     private Stage stage;
     private Skin skin;
-    private Texture bgTexture;
-    private Texture characterTexture;
-    private Texture muteIconTex;
-    private Texture unmuteIconTex;
+    private TextureAtlas atlas;
+    private TextureRegion bgRegion;
+    private TextureRegion characterRegion;
+    private TextureRegion muteIconRegion;
+    private TextureRegion unmuteIconRegion;
     private FontGenerator fontGenerator;
     private float bgScrollX = 0f;
     private static final float BG_SCROLL_SPEED = 40f;
@@ -134,19 +135,11 @@ public class MainMenuScene extends Scene {
         camera.position.set(WORLD_WIDTH / 2f, WORLD_HEIGHT / 2f, 0);
         camera.update();
 
-        bgTexture = new Texture(Gdx.files.internal(ASSET_BASE +
-            "Sprites/Backgrounds/Default/background_color_trees.png"));
-        bgTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        bgTexture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
-
-        characterTexture = new Texture(Gdx.files.internal(ASSET_BASE +
-            "Sprites/Characters/Default/character_green_front.png"));
-        characterTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-
-        muteIconTex = new Texture(Gdx.files.internal("mute.png"));
-        muteIconTex.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        unmuteIconTex = new Texture(Gdx.files.internal("unmute.png"));
-        unmuteIconTex.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        atlas = ServiceLocator.getAtlas();
+        bgRegion = GameAtlas.region(atlas, GameAtlas.BG_TREES);
+        characterRegion = GameAtlas.region(atlas, GameAtlas.PLAYER_FRONT);
+        muteIconRegion = GameAtlas.region(atlas, GameAtlas.ICON_MUTE);
+        unmuteIconRegion = GameAtlas.region(atlas, GameAtlas.ICON_UNMUTE);
 
         createSkin();
         createUI();
@@ -159,31 +152,22 @@ public class MainMenuScene extends Scene {
 
         // -- Fonts --
         BitmapFont skinFont = fontGenerator.create(22, Color.WHITE);
-        skin.add("default-font", skinFont);
-
         BitmapFont titleSkinFont = fontGenerator.create(42, Color.YELLOW, Color.DARK_GRAY, 2f);
-        skin.add("title-font", titleSkinFont);
-
         BitmapFont subtitleFont = fontGenerator.create(18, Color.BLACK);
-        skin.add("subtitle-font", subtitleFont);
-
         BitmapFont ruleHeaderFont = fontGenerator.create(28, Color.YELLOW, Color.DARK_GRAY, 1f);
-        skin.add("rule-header-font", ruleHeaderFont);
-
         BitmapFont ruleBodyFont = fontGenerator.create(18, Color.WHITE);
-        skin.add("rule-body-font", ruleBodyFont);
-
-        // -- Button pixmaps --
-        addPixmapTexture(skin, "button-up", 1, 1, new Color(0.2f, 0.6f, 0.3f, 1f));
-        addPixmapTexture(skin, "button-over", 1, 1, new Color(0.3f, 0.8f, 0.4f, 1f));
-        addPixmapTexture(skin, "button-down", 1, 1, new Color(0.15f, 0.5f, 0.25f, 1f));
-        addPixmapTexture(skin, "nav-btn-up", 1, 1, new Color(0.25f, 0.5f, 0.7f, 1f));
-        addPixmapTexture(skin, "nav-btn-over", 1, 1, new Color(0.35f, 0.65f, 0.85f, 1f));
-        addPixmapTexture(skin, "nav-btn-disabled", 1, 1, new Color(0.3f, 0.3f, 0.3f, 0.5f));
-        addPixmapTexture(skin, "slider-bg", 1, 1, new Color(0.3f, 0.3f, 0.3f, 0.8f));
-        addPixmapTexture(skin, "slider-knob", 14, 20, new Color(0.4f, 0.8f, 0.4f, 1f));
-        addPixmapTexture(skin, "slider-fill", 1, 1, new Color(0.3f, 0.7f, 0.3f, 0.9f));
-        addPixmapTexture(skin, "window-bg", 1, 1, new Color(0.1f, 0.1f, 0.18f, 0.96f));
+
+        // -- Button swatches (tinted atlas white) --
+        addSolid(skin, "button-up", 1, 1, new Color(0.2f, 0.6f, 0.3f, 1f));
+        addSolid(skin, "button-over", 1, 1, new Color(0.3f, 0.8f, 0.4f, 1f));
+        addSolid(skin, "button-down", 1, 1, new Color(0.15f, 0.5f, 0.25f, 1f));
+        addSolid(skin, "nav-btn-up", 1, 1, new Color(0.25f, 0.5f, 0.7f, 1f));
+        addSolid(skin, "nav-btn-over", 1, 1, new Color(0.35f, 0.65f, 0.85f, 1f));
+        addSolid(skin, "nav-btn-disabled", 1, 1, new Color(0.3f, 0.3f, 0.3f, 0.5f));
+        addSolid(skin, "slider-bg", 1, 1, new Color(0.3f, 0.3f, 0.3f, 0.8f));
+        addSolid(skin, "slider-knob", 14, 20, new Color(0.4f, 0.8f, 0.4f, 1f));
+        addSolid(skin, "slider-fill", 1, 1, new Color(0.3f, 0.7f, 0.3f, 0.9f));
+        addSolid(skin, "window-bg", 1, 1, new Color(0.1f, 0.1f, 0.18f, 0.96f));
 
         // -- Styles --
         TextButton.TextButtonStyle btnStyle = new TextButton.TextButtonStyle();
@@ -225,16 +209,12 @@ public class MainMenuScene extends Scene {
         addLabelStyle(skin, "page-num", skinFont, new Color(0.7f, 0.7f, 0.7f, 1f));
     }
 
-    private void addPixmapTexture(Skin s, String name, int w, int h, Color c) {
-        Pixmap p = new Pixmap(w, h, Pixmap.Format.RGBA8888);
-        p.setColor(c);
-        p.fill();
-        s.add(name, new Texture(p));
-        p.dispose();
+    private void addSolid(Skin s, String name, int w, int h, Color c) {
+        s.add(name, GameAtlas.solid(atlas, c, w, h), Drawable.class);
     }
 
-    private TextureRegionDrawable drawable(String name) {
-        return new TextureRegionDrawable(new TextureRegion(skin.get(name, Texture.class)));
+    private Drawable drawable(String name) {
+        return skin.getDrawable(name);
     }
 
     private void addLabelStyle(Skin s, String name, BitmapFont font, Color color) {
@@ -330,8 +310,8 @@ public class MainMenuScene extends Scene {
 
         // Mute button using PNG icons
         boolean isMuted = audio != null && audio.isMuted();
-        TextureRegionDrawable muteDrawable = new TextureRegionDrawable(new TextureRegion(muteIconTex));
-        TextureRegionDrawable unmuteDrawable = new TextureRegionDrawable(new TextureRegion(unmuteIconTex));
+        TextureRegionDrawable muteDrawable = new TextureRegionDrawable(muteIconRegion);
+        TextureRegionDrawable unmuteDrawable = new TextureRegionDrawable(unmuteIconRegion);
 
         ImageButton.ImageButtonStyle muteBtnStyle = new ImageButton.ImageButtonStyle();
         muteBtnStyle.imageUp = isMuted ? muteDrawable : unmuteDrawable;
@@ -362,9 +342,7 @@ public class MainMenuScene extends Scene {
         if (audio == null || muteBtn == null) return;
 
         boolean muted = audio.isMuted();
-        TextureRegionDrawable icon = new TextureRegionDrawable(
-            new TextureRegion(muted ? muteIconTex : unmuteIconTex)
-        );
+        TextureRegionDrawable icon = new TextureRegionDrawable(muted ? muteIconRegion : unmuteIconRegion);
         ImageButton.ImageButtonStyle style = new ImageButton.ImageButtonStyle();
         style.imageUp = icon;
         muteBtn.setStyle(style);
@@ -491,11 +469,11 @@ public class MainMenuScene extends Scene {
 
         float bgWidth = WORLD_WIDTH;
         float offset = bgScrollX % bgWidth;
-        batch.draw(bgTexture, -offset, 0, bgWidth, WORLD_HEIGHT);
-        batch.draw(bgTexture, bgWidth - offset, 0, bgWidth, WORLD_HEIGHT);
+        batch.draw(bgRegion, -offset, 0, bgWidth, WORLD_HEIGHT);
+        batch.draw(bgRegion, bgWidth - offset, 0, bgWidth, WORLD_HEIGHT);
 
-        batch.draw(characterTexture, 50, 80, 96, 96);
-        batch.draw(characterTexture, WORLD_WIDTH - 146, 80, 96, 96);
+        batch.draw(characterRegion, 50, 80, 96, 96);
+        batch.draw(characterRegion, WORLD_WIDTH - 146, 80, 96, 96);
 
         batch.end();
         stage.draw();
@@ -504,6 +482,7 @@ public class MainMenuScene extends Scene {
     @Override
     protected void onResize(int width, int height) {
         viewport.update(width, height, true);
+        ServiceLocator.getFonts().setViewport(viewport);
     }
 
     @Override
@@ -534,18 +513,6 @@ public class MainMenuScene extends Scene {
         if (skin != null) {
             skin.dispose();
         }
-        if (bgTexture != null) {
-            bgTexture.dispose();
-        }
-        if (characterTexture != null) {
-            characterTexture.dispose();
-        }
-        if (muteIconTex != null) {
-            muteIconTex.dispose();
-        }
-        if (unmuteIconTex != null) {
-            unmuteIconTex.dispose();
-        }
         if (fontGenerator != null) {
             fontGenerator.dispose();
         }
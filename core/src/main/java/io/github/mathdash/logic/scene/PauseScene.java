@@ -3,10 +3,9 @@ package io.github.mathdash.logic.scene;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
@@ -18,6 +17,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
@@ -31,6 +31,7 @@ import io.github.mathdash.engine.scene.Scene;
 import io.github.mathdash.engine.scene.SceneManager;
 import io.github.mathdash.engine.scene.StageManager;
 import io.github.mathdash.logic.util.FontGenerator;
+import io.github.mathdash.logic.util.GameAtlas;
 
 /**
  * PauseScene - Displayed when the game is paused.
@@ -52,9 +53,10 @@ public class PauseScene extends Scene {
     private Viewport viewport;
     private StageManager stageManager;
     private Skin skin;
-    private Texture overlayTexture;
-    private Texture muteIconTex;
-    private Texture unmuteIconTex;
+    private TextureAtlas atlas;
+    private TextureRegion overlayRegion;
+    private TextureRegion muteIconRegion;
+    private TextureRegion unmuteIconRegion;
     private FontGenerator fontGenerator;
     private InputManager inputManager;
     private ImageButton muteBtn;
@@ -77,16 +79,10 @@ public class PauseScene extends Scene {
 
         stageManager = new StageManager();
 
-        Pixmap overlay = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        overlay.setColor(0, 0, 0, 0.7f);
-        overlay.fill();
-        overlayTexture = new Texture(overlay);
-        overlay.dispose();
-
-        muteIconTex = new Texture(Gdx.files.internal("mute.png"));
-        muteIconTex.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        unmuteIconTex = new Texture(Gdx.files.internal("unmute.png"));
-        unmuteIconTex.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        atlas = ServiceLocator.getAtlas();
+        overlayRegion = GameAtlas.region(atlas, GameAtlas.WHITE);
+        muteIconRegion = GameAtlas.region(atlas, GameAtlas.ICON_MUTE);
+        unmuteIconRegion = GameAtlas.region(atlas, GameAtlas.ICON_UNMUTE);
 
         // Fetch shared InputManager from ServiceLocator (bootstrapped by GameMaster)
         inputManager = (InputManager) ServiceLocator.getInput();
@@ -98,18 +94,12 @@ public class PauseScene extends Scene {
         skin = new Skin();
 
         BitmapFont skinFont = fontGenerator.create(24, Color.WHITE);
-        skin.add("default-font", skinFont);
-
-        addPixmap(skin, "btn-up", new Color(0.3f, 0.5f, 0.8f, 1f));
-        addPixmap(skin, "btn-over", new Color(0.4f, 0.6f, 0.9f, 1f));
-        addPixmap(skin, "slider-bg", new Color(0.3f, 0.3f, 0.3f, 0.8f));
-        addPixmap(skin, "slider-fill", new Color(0.3f, 0.7f, 0.3f, 0.9f));
 
-        Pixmap knob = new Pixmap(14, 20, Pixmap.Format.RGBA8888);
-        knob.setColor(new Color(0.4f, 0.8f, 0.4f, 1f));
-        knob.fill();
-        skin.add("slider-knob", new Texture(knob));
-        knob.dispose();
+        addSolid(skin, "btn-up", 1, 1, new Color(0.3f, 0.5f, 0.8f, 1f));
+        addSolid(skin, "btn-over", 1, 1, new Color(0.4f, 0.6f, 0.9f, 1f));
+        addSolid(skin, "slider-bg", 1, 1, new Color(0.3f, 0.3f, 0.3f, 0.8f));
+        addSolid(skin, "slider-fill", 1, 1, new Color(0.3f, 0.7f, 0.3f, 0.9f));
+        addSolid(skin, "slider-knob", 14, 20, new Color(0.4f, 0.8f, 0.4f, 1f));
 
         TextButton.TextButtonStyle style = new TextButton.TextButtonStyle();
         style.up = drawable("btn-up");
@@ -121,7 +111,7 @@ public class PauseScene extends Scene {
 
         Slider.SliderStyle sliderStyle = new Slider.SliderStyle();
         sliderStyle.background = drawable("slider-bg");
-        sliderStyle.knob = new TextureRegionDrawable(new TextureRegion(skin.get("slider-knob", Texture.class)));
+        sliderStyle.knob = drawable("slider-knob");
         sliderStyle.knobBefore = drawable("slider-fill");
         skin.add("default-horizontal", sliderStyle);
 
@@ -137,16 +127,12 @@ public class PauseScene extends Scene {
         skin.add("default", defaultLabel);
     }
 
-    private void addPixmap(Skin s, String name, Color c) {
-        Pixmap p = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        p.setColor(c);
-        p.fill();
-        s.add(name, new Texture(p));
-        p.dispose();
+    private void addSolid(Skin s, String name, int w, int h, Color c) {
+        s.add(name, GameAtlas.solid(atlas, c, w, h), Drawable.class);
     }
 
-    private TextureRegionDrawable drawable(String name) {
-        return new TextureRegionDrawable(new TextureRegion(skin.get(name, Texture.class)));
+    private Drawable drawable(String name) {
+        return skin.getDrawable(name);
     }
 
     /** Rebuilds the UI to reflect current audio state from ServiceLocator. */
@@ -215,9 +201,7 @@ public class PauseScene extends Scene {
             });
             audioRow.add(volumeSlider).width(120).height(30).padRight(15);
 
-            TextureRegionDrawable icon = new TextureRegionDrawable(
-                new TextureRegion(muted ? muteIconTex : unmuteIconTex)
-            );
+            TextureRegionDrawable icon = new TextureRegionDrawable(muted ? muteIconRegion : unmuteIconRegion);
             ImageButton.ImageButtonStyle muteBtnStyle = new ImageButton.ImageButtonStyle();
             muteBtnStyle.imageUp = icon;
             muteBtn = new ImageButton(muteBtnStyle);
@@ -249,8 +233,7 @@ public class PauseScene extends Scene {
             return;
         }
         TextureRegionDrawable icon = new TextureRegionDrawable(
-            new TextureRegion(audio.isMuted() ? muteIconTex : unmuteIconTex)
-        );
+            audio.isMuted() ? muteIconRegion : unmuteIconRegion);
         ImageButton.ImageButtonStyle style = new ImageButton.ImageButtonStyle();
         style.imageUp = icon;
         muteBtn.setStyle(style);
@@ -258,8 +241,6 @@ public class PauseScene extends Scene {
 
     @Override
     public void update(float deltaTime) {
-        inputManager.update();
-
         // Resume via InputManager
         if (inputManager.isActionTriggered(InputAction.TOGGLE_PAUSE)) {
             sceneManager.setScene("game");
@@ -278,7 +259,9 @@ public class PauseScene extends Scene {
         camera.update();
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        batch.draw(overlayTexture, 0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+        batch.setColor(0f, 0f, 0f, 0.7f);
+        batch.draw(overlayRegion, 0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+        batch.setColor(Color.WHITE);
         batch.end();
         stageManager.render();
     }
@@ -286,6 +269,7 @@ public class PauseScene extends Scene {
     @Override
     protected void onResize(int width, int height) {
         viewport.update(width, height, true);
+        ServiceLocator.getFonts().setViewport(viewport);
         stageManager.resize(width, height);
     }
 
@@ -308,15 +292,6 @@ public class PauseScene extends Scene {
         if (skin != null) {
             skin.dispose();
         }
-        if (overlayTexture != null) {
-            overlayTexture.dispose();
-        }
-        if (muteIconTex != null) {
-            muteIconTex.dispose();
-        }
-        if (unmuteIconTex != null) {
-            unmuteIconTex.dispose();
-        }
         if (fontGenerator != null) {
             fontGenerator.dispose();
         }
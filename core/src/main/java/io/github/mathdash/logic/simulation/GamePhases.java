@@ -0,0 +1,31 @@
+package io.github.mathdash.logic.simulation;
+
+import io.github.mathdash.engine.debug.FrameProfiler;
+
+/**
+ * GamePhases - The profiled phases of a MathDash frame. The first five run
+ * inside GameSimulation.step(), the rest inside GameScene.render().
+ */
+public final class GamePhases {
+
+    public static final int COLLISION_DISPATCHER = 0;
+    public static final int ENTITY_UPDATE = 1;
+    public static final int CHECK_COLLISIONS = 2;
+    public static final int SPAWNER = 3;
+    public static final int CLEANER = 4;
+    public static final int BACKGROUND_RENDER = 5;
+    public static final int ENTITY_RENDER = 6;
+    public static final int HUD_RENDER = 7;
+
+    private static final String[] NAMES = {
+        "dispatcher", "entity update", "collisions", "spawner", "cleaner",
+        "bg render", "entity render", "hud render"
+    };
+
+    private GamePhases() { }
+
+    /** Creates a disabled profiler with one slot per phase. */
+    public static FrameProfiler createProfiler() {
+        return new FrameProfiler(NAMES);
+    }
+}
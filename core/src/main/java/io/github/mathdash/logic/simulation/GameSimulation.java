@@ -0,0 +1,355 @@
+package io.github.mathdash.logic.simulation;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+import io.github.mathdash.engine.collision.CollisionManager;
+import io.github.mathdash.engine.debug.FrameProfiler;
+import io.github.mathdash.engine.difficulty.DifficultyAdapter;
+import io.github.mathdash.engine.entity.EntityManager;
+import io.github.mathdash.engine.entity.Renderable;
+import io.github.mathdash.engine.inputoutput.IAudioSystem;
+import io.github.mathdash.engine.movement.MovementManager;
+import io.github.mathdash.logic.collision.CollisionDispatcher;
+import io.github.mathdash.logic.component.SurgeComponent;
+import io.github.mathdash.logic.difficulty.MathDashDifficulty;
+import io.github.mathdash.logic.entity.AnswerBlock;
+import io.github.mathdash.logic.entity.AnswerBlockFactory;
+import io.github.mathdash.logic.entity.Obstacle;
+import io.github.mathdash.logic.entity.ObstacleFactory;
+import io.github.mathdash.logic.entity.Player;
+import io.github.mathdash.logic.entity.PlayerFactory;
+import io.github.mathdash.logic.event.GameEventQueue;
+import io.github.mathdash.logic.math.MathQuestion;
+import io.github.mathdash.logic.math.MathQuestionGenerator;
+import io.github.mathdash.logic.render.EntityCleaner;
+import io.github.mathdash.logic.render.EntitySpawner;
+
+/**
+ * GameSimulation - The GL-free gameplay core of MathDash.
+ *
+ * Owns the engine managers, the player, spawning and cleanup, collision
+ * rules, difficulty and surge. One call to step() advances the game by one
+ * tick. Nothing here touches Gdx.graphics, Gdx.files or GL objects, so a
+ * simulation runs under the headless backend (or with no backend at all)
+ * at thousands of ticks per second.
+ *
+ * GameScene wraps a GameSimulation with textures, input, HUD and scene
+ * flow. Headless runs build one with headless(level), whose Renderables
+ * carry empty TextureRegions.
+ */
+public class GameSimulation implements CollisionDispatcher.GameEventListener {
+
+    public static final float WORLD_WIDTH = 800f;
+    public static final float WORLD_HEIGHT = 600f;
+    public static final float BASE_SCROLL_SPEED = 200f;
+
+    private final int level;
+
+    // Engine managers
+    private final EntityManager entityManager;
+    private final CollisionManager collisionManager;
+    private final MovementManager movementManager;
+
+    // Factories
+    private final ObstacleFactory obstacleFactory;
+    private final AnswerBlockFactory answerBlockFactory;
+
+    // Game state
+    private final Player player;
+    private final CollisionDispatcher collisionDispatcher;
+    private final GameEventQueue gameEvents;
+    private final DifficultyAdapter difficulty;
+    private final SurgeComponent surgeComponent;
+    private final MathQuestionGenerator questionGenerator;
+    // Refilled in place for each new question
+    private final MathQuestion currentQuestion = new MathQuestion();
+    private float scrollSpeed;
+    private int score = 0;
+    private boolean playerDead = false;
+    private long tick = 0;
+
+    // Track active entities; unordered so EntityCleaner's removeIndex is a swap, not a shift
+    private final Array<AnswerBlock> activeAnswers = new Array<>(false, 16);
+    private final Array<Obstacle> activeObstacles = new Array<>(false, 16);
+
+    // Track surge state for updates
+    private boolean previousSurgingState = false;
+
+    private final EntitySpawner entitySpawner;
+    private final EntityCleaner entityCleaner;
+
+    // Phase timing for the debug overlay and traces; disabled until toggled
+    private final FrameProfiler profiler = GamePhases.createProfiler();
+
+    /**
+     * Creates a simulation using the given factories. The factories should
+     * be built with BASE_SCROLL_SPEED. The audio system may be null.
+     */
+    public GameSimulation(int level, PlayerFactory playerFactory, ObstacleFactory obstacleFactory,
+                          AnswerBlockFactory answerBlockFactory, IAudioSystem audio) {
+        this.level = level;
+        this.scrollSpeed = BASE_SCROLL_SPEED;
+        this.obstacleFactory = obstacleFactory;
+        this.answerBlockFactory = answerBlockFactory;
+
+        entityManager = new EntityManager();
+        collisionManager = new CollisionManager();
+        movementManager = new MovementManager();
+        difficulty = new MathDashDifficulty();
+        surgeComponent = new SurgeComponent();
+        questionGenerator = new MathQuestionGenerator(level);
+
+        player = playerFactory.create(120f, Player.LANE_Y[0]);
+
+        // Attach SurgeComponent to Player entity for ECS consistency
+        player.addComponent(surgeComponent);
+
+        // Collision events are queued and drained after checkCollisions()
+        gameEvents = new GameEventQueue();
+        collisionDispatcher = new CollisionDispatcher(audio, gameEvents);
+        player.setCollisionHandler(collisionDispatcher);
+
+        entityManager.addEntity(player);
+        collisionManager.addObject(player);
+
+        // Create spawner and cleaner after player (needs collisionDispatcher)
+        entitySpawner = new EntitySpawner(WORLD_WIDTH, obstacleFactory, answerBlockFactory,
+            entityManager, collisionManager, movementManager, collisionDispatcher,
+            activeAnswers, activeObstacles);
+        entityCleaner = new EntityCleaner(collisionManager, entityManager, movementManager);
+
+        generateNewQuestion();
+    }
+
+    /**
+     * Creates a simulation with texture-less Renderables and no audio,
+     * for headless runs and tuning.
+     */
+    public static GameSimulation headless(int level) {
+        Renderable blank = new Renderable(new TextureRegion(), 48, 48);
+        return new GameSimulation(level,
+            new PlayerFactory(blank, blank, blank, blank),
+            new ObstacleFactory(BASE_SCROLL_SPEED, blank),
+            new AnswerBlockFactory(blank, BASE_SCROLL_SPEED),
+            null);
+    }
+
+    // ---- Simulation ----
+
+    /**
+     * Advances the game by one tick of deltaTime seconds.
+     * Does nothing once the player has died.
+     */
+    public void step(float deltaTime) {
+        if (playerDead) {
+            return;
+        }
+        tick++;
+
+        // Update game systems
+        profiler.begin(GamePhases.COLLISION_DISPATCHER);
+        collisionDispatcher.update(deltaTime);
+        profiler.end(GamePhases.COLLISION_DISPATCHER);
+
+        profiler.begin(GamePhases.ENTITY_UPDATE);
+        entityManager.update(deltaTime);
+        profiler.end(GamePhases.ENTITY_UPDATE);
+
+        profiler.begin(GamePhases.CHECK_COLLISIONS);
+        collisionManager.checkCollisions();
+        gameEvents.drain(this);
+        profiler.end(GamePhases.CHECK_COLLISIONS);
+
+        // Apply adaptive difficulty + surge speed
+        scrollSpeed = BASE_SCROLL_SPEED * difficulty.getSpeedMultiplier()
+            * surgeComponent.getSpeedBonus();
+
+        // Detect surge state changes and update entity speeds
+        boolean currentSurgingState = surgeComponent.isSurging();
+        if (currentSurgingState != previousSurgingState) {
+            previousSurgingState = currentSurgingState;
+            updateScrollSpeeds();
+        }
+
+        profiler.begin(GamePhases.SPAWNER);
+        entitySpawner.update(deltaTime, scrollSpeed, currentQuestion);
+        profiler.end(GamePhases.SPAWNER);
+
+        profiler.begin(GamePhases.CLEANER);
+        boolean allAnswersGone = entityCleaner.cleanup(activeObstacles, activeAnswers);
+        profiler.end(GamePhases.CLEANER);
+        if (entitySpawner.isAnswersOnScreen() && allAnswersGone) {
+            generateNewQuestion();
+        }
+    }
+
+    /** Moves the player one lane up (+1) or down (-1). */
+    public void switchLane(int direction) {
+        player.switchLane(direction);
+    }
+
+    /** Suspends or resumes all scrolling movement (used while paused). */
+    public void setMovementFrozen(boolean frozen) {
+        if (frozen) {
+            movementManager.freezeAll();
+        } else {
+            movementManager.unfreezeAll();
+        }
+    }
+
+    /**
+     * Starts the level again in place: a full-lives player, no obstacles or
+     * answers, base speed and a new question. Managers, pools and queues
+     * keep their capacity, so a restart allocates nothing, unlike building
+     * a new simulation.
+     */
+    public void reset() {
+        entitySpawner.reset();
+        gameEvents.clear();
+        collisionDispatcher.reset();
+        difficulty.reset();
+        surgeComponent.reset();
+        player.respawn();
+        movementManager.unfreezeAll();
+
+        scrollSpeed = BASE_SCROLL_SPEED;
+        previousSurgingState = false;
+        score = 0;
+        playerDead = false;
+        tick = 0;
+        updateScrollSpeeds();
+        generateNewQuestion();
+    }
+
+    /** Releases all entities and pooled instances. */
+    public void dispose() {
+        entityManager.dispose();
+        collisionManager.clear();
+        gameEvents.clear();
+        obstacleFactory.clearPool();
+        answerBlockFactory.clearPool();
+    }
+
+    // ---- CollisionDispatcher.GameEventListener callbacks ----
+
+    @Override
+    public void onHealthChanged(int newHealth) { }
+
+    @Override
+    public void onObstacleHit() {
+        difficulty.onObstacleHit();
+        surgeComponent.resetSurge();
+        updateScrollSpeeds();
+    }
+
+    @Override
+    public void onPlayerDeath() {
+        playerDead = true;
+    }
+
+    @Override
+    public void onCorrectAnswer() {
+        score++;
+        difficulty.onCorrect();
+        surgeComponent.addSurge();
+
+        updateScrollSpeeds();
+        entitySpawner.clearAnswerBlocks();
+        generateNewQuestion();
+    }
+
+    @Override
+    public void onWrongAnswer() {
+        difficulty.onWrong();
+        surgeComponent.resetSurge();
+
+        updateScrollSpeeds();
+        entitySpawner.clearAnswerBlocks();
+        generateNewQuestion();
+    }
+
+    // ---- Internal ----
+
+    private void generateNewQuestion() {
+        questionGenerator.generate(currentQuestion);
+        entitySpawner.resetAnswerTimer();
+    }
+
+    private void updateScrollSpeeds() {
+        float newSpeed = BASE_SCROLL_SPEED * difficulty.getSpeedMultiplier()
+            * surgeComponent.getSpeedBonus();
+
+        // Update factories for future spawns
+        obstacleFactory.setScrollSpeed(newSpeed);
+        answerBlockFactory.setScrollSpeed(newSpeed);
+
+        // Update all existing entities on screen
+        for (int i = 0; i < activeObstacles.size; i++) {
+            activeObstacles.get(i).setScrollSpeed(newSpeed);
+        }
+        for (int i = 0; i < activeAnswers.size; i++) {
+            activeAnswers.get(i).setScrollSpeed(newSpeed);
+        }
+    }
+
+    // ---- Getters ----
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public boolean isPlayerDead() {
+        return playerDead;
+    }
+
+    /** Number of step() calls that advanced the game. */
+    public long getTick() {
+        return tick;
+    }
+
+    public float getScrollSpeed() {
+        return scrollSpeed;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public MathQuestion getCurrentQuestion() {
+        return currentQuestion;
+    }
+
+    public DifficultyAdapter getDifficulty() {
+        return difficulty;
+    }
+
+    public SurgeComponent getSurgeComponent() {
+        return surgeComponent;
+    }
+
+    /** Profiler whose GamePhases slots time step(); the render phases share it. */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    public EntityManager getEntityManager() {
+        return entityManager;
+    }
+
+    public CollisionManager getCollisionManager() {
+        return collisionManager;
+    }
+
+    public Array<AnswerBlock> getActiveAnswers() {
+        return activeAnswers;
+    }
+
+    public Array<Obstacle> getActiveObstacles() {
+        return activeObstacles;
+    }
+}
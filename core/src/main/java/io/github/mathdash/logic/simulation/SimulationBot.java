@@ -0,0 +1,133 @@
+package io.github.mathdash.logic.simulation;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+
+import io.github.mathdash.engine.entity.Transform;
+import io.github.mathdash.logic.entity.AnswerBlock;
+import io.github.mathdash.logic.entity.Obstacle;
+import io.github.mathdash.logic.entity.Player;
+
+/**
+ * SimulationBot - A simple scripted player for headless and benchmark runs.
+ *
+ * Each tick it heads for the lane of the correct answer block when one is
+ * ahead, and otherwise dodges the nearest obstacle in its lane. An accuracy
+ * below 1 makes it sometimes pick a wrong answer lane, so runs exercise
+ * both difficulty paths. Decisions use MathUtils.random, so seeding it
+ * makes a run reproducible.
+ */
+public class SimulationBot {
+
+    private static final float LOOKAHEAD = 220f;
+
+    private final float accuracy;
+    private AnswerBlock committedTarget;
+    private int committedLane = -1;
+
+    public SimulationBot() {
+        this(0.8f);
+    }
+
+    /** @param accuracy probability in [0, 1] of choosing the correct answer lane */
+    public SimulationBot(float accuracy) {
+        this.accuracy = Math.max(0f, Math.min(1f, accuracy));
+    }
+
+    /** Chooses a lane for this tick and steers the simulation's player towards it. */
+    public void act(GameSimulation simulation) {
+        Player player = simulation.getPlayer();
+        Transform transform = player.getComponent(Transform.TYPE);
+        if (transform == null) {
+            return;
+        }
+        int lane = player.getCurrentLane();
+
+        // Only decide once the previous lane switch has finished
+        if (Math.abs(transform.getY() - Player.LANE_Y[lane]) > 1f) {
+            return;
+        }
+
+        int target = chooseLane(simulation, transform.getX(), lane);
+        if (target > lane) {
+            simulation.switchLane(1);
+        } else if (target < lane) {
+            simulation.switchLane(-1);
+        }
+    }
+
+    private int chooseLane(GameSimulation simulation, float playerX, int lane) {
+        int answerLane = chooseAnswerLane(simulation.getActiveAnswers(), playerX);
+        if (answerLane >= 0) {
+            return answerLane;
+        }
+        committedTarget = null;
+
+        Array<Obstacle> obstacles = simulation.getActiveObstacles();
+        if (!obstacleAhead(obstacles, playerX, lane)) {
+            return lane;
+        }
+        // Prefer the closest free neighbour
+        for (int offset = 1; offset < Player.LANE_Y.length; offset++) {
+            if (lane + offset < Player.LANE_Y.length && !obstacleAhead(obstacles, playerX, lane + offset)) {
+                return lane + offset;
+            }
+            if (lane - offset >= 0 && !obstacleAhead(obstacles, playerX, lane - offset)) {
+                return lane - offset;
+            }
+        }
+        return lane;
+    }
+
+    // Picks (once per answer wave) the lane to collect, or -1 when no answers are ahead.
+    private int chooseAnswerLane(Array<AnswerBlock> answers, float playerX) {
+        AnswerBlock correct = null;
+        AnswerBlock wrong = null;
+        for (int i = 0; i < answers.size; i++) {
+            AnswerBlock block = answers.get(i);
+            Transform t = block.getComponent(Transform.TYPE);
+            if (t == null || t.getX() < playerX || !block.isActive()) {
+                continue;
+            }
+            if (block.isCorrect()) {
+                correct = block;
+            } else if (wrong == null) {
+                wrong = block;
+            }
+        }
+        if (correct == null) {
+            return -1;
+        }
+        if (committedTarget != correct) {
+            committedTarget = correct;
+            AnswerBlock pick = (wrong != null && MathUtils.random() >= accuracy) ? wrong : correct;
+            committedLane = laneOf(pick.getComponent(Transform.TYPE).getY());
+        }
+        return committedLane;
+    }
+
+    private boolean obstacleAhead(Array<Obstacle> obstacles, float playerX, int lane) {
+        for (int i = 0; i < obstacles.size; i++) {
+            Obstacle obstacle = obstacles.get(i);
+            Transform t = obstacle.getComponent(Transform.TYPE);
+            if (t == null || !obstacle.isActive()) {
+                continue;
+            }
+            float dx = t.getX() - playerX;
+            if (dx > -30f && dx < LOOKAHEAD && laneOf(t.getY()) == lane) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int laneOf(float y) {
+        int best = 0;
+        for (int i = 1; i < Player.LANE_Y.length; i++) {
+            if (Math.abs(Player.LANE_Y[i] - y) < Math.abs(Player.LANE_Y[best] - y)) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
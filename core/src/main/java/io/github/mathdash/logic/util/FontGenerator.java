@@ -1,48 +1,53 @@
 package io.github.mathdash.logic.util;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Array;
+
+import io.github.mathdash.engine.ServiceLocator;
+import io.github.mathdash.engine.graphics.FontCache;
 
 /**
- * FontGenerator - Generates crisp BitmapFonts at any size using FreeType.
+ * FontGenerator - Hands out crisp BitmapFonts at any size from the
+ * application-wide FontCache: lightweight views over one shared
+ * distance-field atlas, so equal fonts are created once and shared.
  * Instance-based: each owner creates its own FontGenerator and disposes it
- * in its own cleanup method
+ * in its own cleanup method, which releases every font it handed out.
+ * Owners must not dispose those fonts themselves.
  */
 public class FontGenerator {
 
-    private FreeTypeFontGenerator generator;
+    private final FontCache cache;
+    private final Array<BitmapFont> acquired = new Array<>();
 
     public FontGenerator() {
-        this.generator = new FreeTypeFontGenerator(Gdx.files.internal("arial.ttf"));
+        this(ServiceLocator.getFonts());
+    }
+
+    public FontGenerator(FontCache cache) {
+        if (cache == null) {
+            throw new IllegalStateException("No FontCache has been provided");
+        }
+        this.cache = cache;
     }
 
     public BitmapFont create(int size, Color color) {
-        FreeTypeFontGenerator.FreeTypeFontParameter param = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        param.size = size;
-        param.color = color;
-        param.minFilter = Texture.TextureFilter.Linear;
-        param.magFilter = Texture.TextureFilter.Linear;
-        return generator.generateFont(param);
+        return track(cache.acquire(size, color));
     }
 
     public BitmapFont create(int size, Color color, Color borderColor, float borderWidth) {
-        FreeTypeFontGenerator.FreeTypeFontParameter param = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        param.size = size;
-        param.color = color;
-        param.borderColor = borderColor;
-        param.borderWidth = borderWidth;
-        param.minFilter = Texture.TextureFilter.Linear;
-        param.magFilter = Texture.TextureFilter.Linear;
-        return generator.generateFont(param);
+        return track(cache.acquire(size, color, borderColor, borderWidth));
     }
 
     public void dispose() {
-        if (generator != null) {
-            generator.dispose();
-            generator = null;
+        for (int i = 0; i < acquired.size; i++) {
+            cache.release(acquired.get(i));
         }
+        acquired.clear();
+    }
+
+    private BitmapFont track(BitmapFont font) {
+        acquired.add(font);
+        return font;
     }
 }
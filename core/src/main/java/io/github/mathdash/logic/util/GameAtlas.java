@@ -0,0 +1,102 @@
+package io.github.mathdash.logic.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.utils.BaseDrawable;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import io.github.mathdash.engine.graphics.AtlasBuilder;
+
+/**
+ * GameAtlas - The one sprite atlas shared by every MathDash scene.
+ *
+ * Built once at startup from the regions of the bundled Kenney spritesheets
+ * that the game actually draws, plus the loose icon images and a few solid
+ * swatches, all on a single 1024x1024 page, so every sprite shares one
+ * texture. Two things are drawn from elsewhere: GameScene's background
+ * bands come from three repeat-wrapped standalone textures, which an atlas
+ * region cannot be, and all text comes from the one distance-field glyph
+ * page of the FontCache. A game frame therefore switches textures only
+ * between those.
+ *
+ * GameMaster builds and disposes it and shares it through ServiceLocator.
+ */
+public final class GameAtlas {
+
+    private static final String SHEETS = "kenney_new-platformer-pack-1.1/Spritesheets/";
+    private static final int PAGE_SIZE = 1024;
+
+    // Background (the menu's parallax sky)
+    public static final String BG_TREES = "background_color_trees";
+
+    // Characters
+    public static final String PLAYER_WALK_A = "character_green_walk_a";
+    public static final String PLAYER_WALK_B = "character_green_walk_b";
+    public static final String PLAYER_IDLE = "character_green_idle";
+    public static final String PLAYER_HIT = "character_green_hit";
+    public static final String PLAYER_FRONT = "character_green_front";
+
+    // Enemies and tiles
+    public static final String SAW = "saw_a";
+    public static final String SLIME = "slime_spike_rest";
+    public static final String SPIKES = "block_spikes";
+    public static final String ANSWER_BLOCK = "block_green";
+    public static final String DECO_GRASS = "grass";
+    public static final String DECO_BUSH = "bush";
+    public static final String HEART = "hud_heart";
+    public static final String HEART_EMPTY = "hud_heart_empty";
+
+    // UI
+    public static final String ICON_MUTE = "mute";
+    public static final String ICON_UNMUTE = "unmute";
+    public static final String WHITE = "white";
+    public static final String SURGE_BAR_BG = "surge_bar_bg";
+    public static final String SURGE_BAR_FILL = "surge_bar_fill";
+    public static final String SURGE_TINT = "surge_tint";
+
+    private GameAtlas() { }
+
+    /** Packs and uploads the atlas. Needs a GL context; dispose the result on shutdown. */
+    public static TextureAtlas build() {
+        return new AtlasBuilder(PAGE_SIZE)
+            .addSpritesheet(Gdx.files.internal(SHEETS + "spritesheet-backgrounds-default.xml"),
+                BG_TREES)
+            .addSpritesheet(Gdx.files.internal(SHEETS + "spritesheet-characters-default.xml"),
+                PLAYER_WALK_A, PLAYER_WALK_B, PLAYER_IDLE, PLAYER_HIT, PLAYER_FRONT)
+            .addSpritesheet(Gdx.files.internal(SHEETS + "spritesheet-enemies-default.xml"),
+                SAW, SLIME)
+            .addSpritesheet(Gdx.files.internal(SHEETS + "spritesheet-tiles-default.xml"),
+                SPIKES, ANSWER_BLOCK, DECO_GRASS, DECO_BUSH, HEART, HEART_EMPTY)
+            // The loose images are far larger than they are ever drawn
+            .addImage(ICON_MUTE, Gdx.files.internal("mute.png"), 128, 128)
+            .addImage(ICON_UNMUTE, Gdx.files.internal("unmute.png"), 128, 128)
+            .addSolid(WHITE, 1f, 1f, 1f, 1f)
+            .addSolid(SURGE_BAR_BG, 0.2f, 0.2f, 0.2f, 0.7f)
+            .addSolid(SURGE_BAR_FILL, 0.2f, 0.9f, 0.3f, 0.9f)
+            .addSolid(SURGE_TINT, 1f, 0.85f, 0f, 0.12f)
+            .build();
+    }
+
+    /** Looks up a region, failing loudly if the atlas lacks it. */
+    public static TextureRegion region(TextureAtlas atlas, String name) {
+        TextureRegion region = atlas.findRegion(name);
+        if (region == null) {
+            throw new GdxRuntimeException("Region '" + name + "' is not in the game atlas");
+        }
+        return region;
+    }
+
+    /**
+     * A flat-colour UI drawable (the white swatch tinted), with the given
+     * minimum size, replacing one-off Pixmap textures in Scene2D skins.
+     */
+    public static Drawable solid(TextureAtlas atlas, Color color, float minWidth, float minHeight) {
+        Drawable drawable = new TextureRegionDrawable(region(atlas, WHITE)).tint(color);
+        ((BaseDrawable) drawable).setMinSize(minWidth, minHeight);
+        return drawable;
+    }
+}
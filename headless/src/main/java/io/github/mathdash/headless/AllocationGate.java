@@ -0,0 +1,189 @@
+package io.github.mathdash.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.math.MathUtils;
+
+import java.lang.management.ManagementFactory;
+
+import io.github.mathdash.engine.inputoutput.InputAction;
+import io.github.mathdash.engine.inputoutput.InputBindings;
+import io.github.mathdash.engine.inputoutput.InputManager;
+import io.github.mathdash.engine.scene.FixedTimestep;
+import io.github.mathdash.logic.math.MathQuestionGenerator;
+import io.github.mathdash.logic.render.BackgroundRenderer;
+import io.github.mathdash.logic.simulation.GameSimulation;
+import io.github.mathdash.logic.simulation.SimulationBot;
+
+/**
+ * AllocationGate - Fails the build when any steady-state game-loop frame
+ * allocates.
+ *
+ * Runs the GL-free part of a GameScene frame on the headless backend: bot
+ * input, InputManager polling, one GameSimulation step (collision checks,
+ * spawning, new questions) and the background scroll update. After a
+ * warm-up (pools filled, JIT settled) it measures the bytes allocated by
+ * this thread in every frame via the JVM's per-thread allocation counter
+ * and exits with status 1 if the worst frame is above the limit, which is
+ * zero by default. An allocation that happens only once per answer wave
+ * therefore fails it just as one in every frame does. Deaths restart the
+ * level with GameSimulation.reset(), which keeps the pools, and only that
+ * call is left out of the measurement.
+ *
+ * HUD and sprite drawing need a GL context and are not covered here.
+ *
+ * Usage: AllocationGate [--frames N] [--warmup N] [--max-bytes N] [--level N] [--seed N]
+ */
+public class AllocationGate extends ApplicationAdapter {
+
+    private final Options options;
+
+    public AllocationGate(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) {
+        Options options = Options.parse(args);
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        //// The whole run happens in create(), so the render loop is never needed.
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new AllocationGate(options), configuration);
+    }
+
+    @Override
+    public void create() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)
+            || !((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            Gdx.app.error("AllocationGate", "This JVM cannot report per-thread allocation");
+            System.exit(2);
+        }
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        long threadId = Thread.currentThread().getId();
+
+        MathUtils.random.setSeed(options.seed);
+        MathQuestionGenerator.setSeed(options.seed);
+        float step = FixedTimestep.DEFAULT_STEP_SECONDS;
+
+        Frame frame = new Frame(options.level);
+        for (int i = 0; i < options.warmup; i++) {
+            frame.run(step);
+            if (frame.simulation.isPlayerDead()) {
+                frame.restart();
+            }
+        }
+
+        // Some JVMs allocate inside the counter query itself; measure and subtract that
+        long probe = allocations.getThreadAllocatedBytes(threadId);
+        long overhead = allocations.getThreadAllocatedBytes(threadId) - probe;
+
+        long allocated = 0L;
+        long worst = 0L;
+        int worstFrame = -1;
+        int allocatingFrames = 0;
+        int restarts = 0;
+        for (int i = 0; i < options.frames; i++) {
+            long before = allocations.getThreadAllocatedBytes(threadId);
+            frame.run(step);
+            long used = Math.max(0L, allocations.getThreadAllocatedBytes(threadId) - before - overhead);
+
+            allocated += used;
+            if (used > 0) {
+                allocatingFrames++;
+            }
+            if (used > worst) {
+                worst = used;
+                worstFrame = i;
+            }
+            if (frame.simulation.isPlayerDead()) {
+                frame.restart();
+                restarts++;
+            }
+        }
+        frame.simulation.dispose();
+
+        String summary = String.format(
+            "frames=%d restarts=%d allocated=%d bytes in %d frames, worst %d bytes at frame %d (limit %d)",
+            options.frames, restarts, allocated, allocatingFrames, worst, worstFrame, options.maxBytesPerFrame);
+        if (worst > options.maxBytesPerFrame) {
+            Gdx.app.error("AllocationGate", "FAILED: " + summary);
+            System.exit(1);
+        }
+        Gdx.app.log("AllocationGate", "OK: " + summary);
+        Gdx.app.exit();
+    }
+
+    /** The GL-free work of one GameScene frame at the fixed step. */
+    private static class Frame {
+        private final InputManager input;
+        private final SimulationBot bot = new SimulationBot(1f);
+        private final BackgroundRenderer background;
+        final GameSimulation simulation;
+
+        Frame(int level) {
+            InputBindings bindings = new InputBindings();
+            bindings.bindAction(InputAction.JUMP, Input.Keys.UP);
+            bindings.bindAction(InputAction.CONFIRM, Input.Keys.DOWN);
+            bindings.bindAction(InputAction.TOGGLE_PAUSE, Input.Keys.ESCAPE);
+            bindings.bindAction(InputAction.TOGGLE_MUTE, Input.Keys.M);
+            bindings.bindAction(InputAction.TOGGLE_DEBUG, Input.Keys.F3);
+            input = new InputManager(bindings);
+            // Only update() is exercised, which never touches the textures
+            background = new BackgroundRenderer(GameSimulation.WORLD_WIDTH, GameSimulation.WORLD_HEIGHT,
+                null, null, null, null, null);
+            simulation = GameSimulation.headless(level);
+        }
+
+        void run(float step) {
+            input.update();
+            bot.act(simulation);
+            simulation.step(step);
+            input.consumeActions();
+            background.update(step, simulation.getScrollSpeed());
+        }
+
+        void restart() {
+            simulation.reset();
+        }
+    }
+
+    /** Command-line options for the gate. */
+    public static class Options {
+        int frames = 60_000;
+        int warmup = 10_000;
+        // Allowed bytes in the worst single frame
+        long maxBytesPerFrame = 0L;
+        int level = 3;
+        long seed = 42L;
+
+        public static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--frames":
+                        options.frames = Math.max(1, Integer.parseInt(value));
+                        break;
+                    case "--warmup":
+                        options.warmup = Math.max(0, Integer.parseInt(value));
+                        break;
+                    case "--max-bytes":
+                        options.maxBytesPerFrame = Long.parseLong(value);
+                        break;
+                    case "--level":
+                        options.level = MathUtils.clamp(Integer.parseInt(value), 1, 4);
+                        break;
+                    case "--seed":
+                        options.seed = Long.parseLong(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            return options;
+        }
+    }
+}
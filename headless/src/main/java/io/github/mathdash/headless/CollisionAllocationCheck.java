@@ -0,0 +1,178 @@
+package io.github.mathdash.headless;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.lang.management.ManagementFactory;
+
+import io.github.mathdash.engine.collision.BroadPhase;
+import io.github.mathdash.engine.collision.BruteForceBroadPhase;
+import io.github.mathdash.engine.collision.Collidable;
+import io.github.mathdash.engine.collision.CollisionManager;
+import io.github.mathdash.engine.collision.CollisionResult;
+import io.github.mathdash.engine.collision.SpatialHashBroadPhase;
+
+/**
+ * CollisionAllocationCheck - Fails the build if CollisionManager.checkCollisions()
+ * allocates in steady state.
+ *
+ * Fills a CollisionManager with a grid of overlapping boxes that slide
+ * through a repeating cycle of positions, so the broad phase sees cells
+ * fill and empty and every pass reports contacts. After a warm-up that
+ * runs the cycle many times over, it measures the bytes this thread
+ * allocates in each checkCollisions() call through the JVM's per-thread
+ * allocation counter and exits with status 1 if any call allocated. Both
+ * the spatial hash and the brute-force broad phase are checked.
+ *
+ * Unlike AllocationGate, nothing but the collision pass runs between the
+ * counter reads, so a failure points at collision code alone. It needs no
+ * libGDX backend.
+ *
+ * Usage: CollisionAllocationCheck [--objects N] [--passes N] [--warmup N]
+ */
+public class CollisionAllocationCheck {
+
+    // Positions repeat with this period, so the warm-up covers every state measured
+    private static final int CYCLE = 16;
+    private static final float BOX_SIZE = 48f;
+    private static final float SPACING = 32f;
+
+    public static void main(String[] args) {
+        Options options = Options.parse(args);
+
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)
+            || !((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            System.err.println("[CollisionAllocationCheck] This JVM cannot report per-thread allocation");
+            System.exit(2);
+        }
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+
+        boolean failed = check("spatialHash", new SpatialHashBroadPhase(), options, allocations);
+        failed |= check("bruteForce", new BruteForceBroadPhase(), options, allocations);
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    // Runs one broad phase; returns true if it failed
+    private static boolean check(String name, BroadPhase broadPhase, Options options,
+                                 com.sun.management.ThreadMXBean allocations) {
+        long threadId = Thread.currentThread().getId();
+        CollisionManager manager = new CollisionManager(broadPhase);
+        Box[] boxes = new Box[options.objects];
+        int columns = Math.max(1, (int) Math.sqrt(options.objects));
+        for (int i = 0; i < boxes.length; i++) {
+            boxes[i] = new Box((i % columns) * SPACING, (i / columns) * SPACING);
+            manager.addObject(boxes[i]);
+        }
+
+        for (int pass = 0; pass < options.warmup; pass++) {
+            move(boxes, pass);
+            manager.checkCollisions();
+        }
+
+        // Some JVMs allocate inside the counter query itself; measure and subtract that
+        long probe = allocations.getThreadAllocatedBytes(threadId);
+        long overhead = allocations.getThreadAllocatedBytes(threadId) - probe;
+
+        long allocated = 0L;
+        long worst = 0L;
+        int worstPass = -1;
+        long contactsBefore = Box.contacts;
+        for (int pass = 0; pass < options.passes; pass++) {
+            move(boxes, options.warmup + pass);
+            long before = allocations.getThreadAllocatedBytes(threadId);
+            manager.checkCollisions();
+            long used = Math.max(0L, allocations.getThreadAllocatedBytes(threadId) - before - overhead);
+
+            allocated += used;
+            if (used > worst) {
+                worst = used;
+                worstPass = pass;
+            }
+        }
+        long contacts = Box.contacts - contactsBefore;
+
+        String summary = String.format(
+            "%s: objects=%d passes=%d contacts=%d allocated=%d bytes, worst %d bytes at pass %d",
+            name, options.objects, options.passes, contacts, allocated, worst, worstPass);
+        if (contacts == 0) {
+            System.err.println("[CollisionAllocationCheck] FAILED (no contacts, nothing was exercised): " + summary);
+            return true;
+        }
+        if (worst > 0) {
+            System.err.println("[CollisionAllocationCheck] FAILED: " + summary);
+            return true;
+        }
+        System.out.println("[CollisionAllocationCheck] OK: " + summary);
+        return false;
+    }
+
+    // Slides every box along one step of the cycle, alternate rows in opposite directions
+    private static void move(Box[] boxes, int pass) {
+        float offset = (pass % CYCLE) * (SPACING / 4f);
+        for (int i = 0; i < boxes.length; i++) {
+            Box box = boxes[i];
+            float dx = (i & 1) == 0 ? offset : -offset;
+            box.bounds.setPosition(box.baseX + dx, box.baseY);
+        }
+    }
+
+    /** A fixed-size box that counts the contacts reported to it. */
+    private static class Box implements Collidable {
+        static long contacts;
+
+        final Rectangle bounds;
+        final float baseX;
+        final float baseY;
+
+        Box(float x, float y) {
+            this.baseX = x;
+            this.baseY = y;
+            this.bounds = new Rectangle(x, y, BOX_SIZE, BOX_SIZE);
+        }
+
+        @Override
+        public Rectangle getBounds() {
+            return bounds;
+        }
+
+        @Override
+        public void onCollision(CollisionResult result) {
+            contacts++;
+        }
+
+        @Override
+        public boolean isCollidable() {
+            return true;
+        }
+    }
+
+    /** Command-line options for the check. */
+    public static class Options {
+        int objects = 64;
+        int passes = 20_000;
+        int warmup = 20_000;
+
+        public static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--objects":
+                        options.objects = Math.max(2, Integer.parseInt(value));
+                        break;
+                    case "--passes":
+                        options.passes = Math.max(1, Integer.parseInt(value));
+                        break;
+                    case "--warmup":
+                        options.warmup = Math.max(0, Integer.parseInt(value));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            return options;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.mathdash.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Launches a GL-free gameplay simulation on the libGDX headless backend.
+ *
+ * Usage: HeadlessLauncher [--level N] [--ticks N] [--seed N] [--accuracy F]
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        SimulationRunner.Options options = SimulationRunner.Options.parse(args);
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        //// The whole run happens in create(), so the render loop is never needed.
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new SimulationRunner(options), configuration);
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.mathdash.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+
+import io.github.mathdash.engine.scene.FixedTimestep;
+import io.github.mathdash.logic.math.MathQuestionGenerator;
+import io.github.mathdash.logic.simulation.GameSimulation;
+import io.github.mathdash.logic.simulation.SimulationBot;
+
+/**
+ * SimulationRunner - Runs GameSimulation as fast as possible with a
+ * SimulationBot at the controls, restarting after each death, and prints
+ * a summary of scores and throughput.
+ */
+public class SimulationRunner extends ApplicationAdapter {
+
+    private final Options options;
+
+    public SimulationRunner(Options options) {
+        this.options = options;
+    }
+
+    @Override
+    public void create() {
+        MathUtils.random.setSeed(options.seed);
+        MathQuestionGenerator.setSeed(options.seed);
+        float step = FixedTimestep.DEFAULT_STEP_SECONDS;
+
+        SimulationBot bot = new SimulationBot(options.accuracy);
+        GameSimulation simulation = GameSimulation.headless(options.level);
+
+        int runs = 0;
+        long totalScore = 0;
+        int bestScore = 0;
+        long totalRunTicks = 0;
+
+        long start = System.nanoTime();
+        for (long tick = 0; tick < options.ticks; tick++) {
+            bot.act(simulation);
+            simulation.step(step);
+
+            if (simulation.isPlayerDead()) {
+                runs++;
+                totalScore += simulation.getScore();
+                bestScore = Math.max(bestScore, simulation.getScore());
+                totalRunTicks += simulation.getTick();
+                simulation.reset();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        simulation.dispose();
+
+        Gdx.app.log("Simulation", String.format(
+            "level=%d seed=%d accuracy=%.2f ticks=%d (%.1f game-hours) in %.2fs -> %.0f ticks/s",
+            options.level, options.seed, options.accuracy, options.ticks,
+            options.ticks * step / 3600.0, seconds, options.ticks / seconds));
+        if (runs > 0) {
+            Gdx.app.log("Simulation", String.format(
+                "runs=%d meanScore=%.2f bestScore=%d meanRunLength=%.1fs",
+                runs, (double) totalScore / runs, bestScore, totalRunTicks * step / runs));
+        } else {
+            Gdx.app.log("Simulation", "no run ended; current score=" + simulation.getScore());
+        }
+        Gdx.app.exit();
+    }
+
+    /** Command-line options for a simulation run. */
+    public static class Options {
+        int level = 1;
+        long ticks = 1_000_000L;
+        long seed = 42L;
+        float accuracy = 0.8f;
+
+        public static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--level":
+                        options.level = MathUtils.clamp(Integer.parseInt(value), 1, 4);
+                        break;
+                    case "--ticks":
+                        options.ticks = Long.parseLong(value);
+                        break;
+                    case "--seed":
+                        options.seed = Long.parseLong(value);
+                        break;
+                    case "--accuracy":
+                        options.accuracy = Float.parseFloat(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            return options;
+        }
+    }
+}
@@ -4,16 +4,30 @@ import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 
 import io.github.mathdash.GameMaster;
-
-/** Launches the desktop (LWJGL3) application. */
+import io.github.mathdash.LaunchOptions;
+
+/**
+ * Launches the desktop (LWJGL3) application.
+ * Pass --benchmark [--level N] [--seconds S] [--seed N] [--out FILE] for a scripted benchmark run.
+ * Pass --trace FILE to record a Chrome trace-event JSON timeline of the session.
+ * Pass --stats BASE to record per-scene frame-time histograms and GC counts as CSV.
+ */
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        createApplication(LaunchOptions.parse(args));
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new GameMaster(), getDefaultConfiguration());
+    private static Lwjgl3Application createApplication(LaunchOptions options) {
+        Lwjgl3ApplicationConfiguration configuration = getDefaultConfiguration();
+        if (options.getBenchmark() != null) {
+            //// Benchmarks measure how fast frames can be produced, so remove every frame-rate cap.
+            configuration.useVsync(false);
+            configuration.setForegroundFPS(0);
+            configuration.setIdleFPS(0);
+            configuration.setTitle("MathDash (benchmark)");
+        }
+        return new Lwjgl3Application(new GameMaster(options), configuration);
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {